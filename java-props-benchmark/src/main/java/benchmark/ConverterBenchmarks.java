@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark;
+
+import com.mihaibojin.props.core.converters.BooleanConverter;
+import com.mihaibojin.props.core.converters.Converter;
+import com.mihaibojin.props.core.converters.ConverterRegistry;
+import com.mihaibojin.props.core.converters.DurationConverter;
+import com.mihaibojin.props.core.converters.LongConverter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares decoding through converters resolved once from a {@link ConverterRegistry} with
+ * creating a converter for every read, as <code>Cast</code> used to.
+ *
+ * <p>Each benchmark decodes a long, a duration and a boolean. With registered converters, every
+ * type is decoded from its own call site, which only ever sees a single receiver class and stays
+ * monomorphic; {@link #decodeWithNewConverters} and {@link
+ * #decodeRegisteredThroughSharedCallSite} rotate all three converter classes through one
+ * (megamorphic) call site, as generic code which decodes any prop does. Run with <code>-prof gc
+ * </code> to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+public class ConverterBenchmarks {
+
+  /** Decodes values with converters resolved once from the registry. */
+  @Benchmark
+  public void decodeWithRegisteredConverters(ConvertersState state, Blackhole blackhole) {
+    blackhole.consume(state.longConverter.decode(state.longValue));
+    blackhole.consume(state.durationConverter.decode(state.durationValue));
+    blackhole.consume(state.booleanConverter.decode(state.booleanValue));
+  }
+
+  /**
+   * Decodes values with converters resolved once from the registry, through a shared call site.
+   */
+  @Benchmark
+  public void decodeRegisteredThroughSharedCallSite(ConvertersState state, Blackhole blackhole) {
+    blackhole.consume(decode(state.longConverter, state.longValue));
+    blackhole.consume(decode(state.durationConverter, state.durationValue));
+    blackhole.consume(decode(state.booleanConverter, state.booleanValue));
+  }
+
+  /** Looks up the converters in the registry for every read. */
+  @Benchmark
+  public void decodeWithRegistryLookups(ConvertersState state, Blackhole blackhole) {
+    blackhole.consume(state.registry.get(Long.class).decode(state.longValue));
+    blackhole.consume(state.registry.get(Duration.class).decode(state.durationValue));
+    blackhole.consume(state.registry.get(Boolean.class).decode(state.booleanValue));
+  }
+
+  /** Creates new converters for every read, and decodes through a shared call site. */
+  @Benchmark
+  public void decodeWithNewConverters(ConvertersState state, Blackhole blackhole) {
+    blackhole.consume(decode(new LongConverter() {}, state.longValue));
+    blackhole.consume(decode(new DurationConverter() {}, state.durationValue));
+    blackhole.consume(decode(new BooleanConverter() {}, state.booleanValue));
+  }
+
+  /**
+   * Decodes the value; not inlined, so that its call to {@link Converter#decode(String)} is shared
+   * by all converter classes.
+   */
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private static <T> T decode(Converter<T> converter, String value) {
+    return converter.decode(value);
+  }
+
+  /** Holds the values to decode and the converters resolved from the registry. */
+  @State(Scope.Benchmark)
+  public static class ConvertersState {
+    final ConverterRegistry registry = ConverterRegistry.defaults();
+    final Converter<Long> longConverter = registry.get(Long.class);
+    final Converter<Duration> durationConverter = registry.get(Duration.class);
+    final Converter<Boolean> booleanConverter = registry.get(Boolean.class);
+    final String longValue = "1600000000000";
+    final String durationValue = "PT15M";
+    final String booleanValue = "true";
+  }
+}
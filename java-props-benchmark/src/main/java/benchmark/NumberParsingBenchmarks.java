@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark;
+
+import com.mihaibojin.props.core.converters.Cast;
+import com.mihaibojin.props.core.converters.Converter;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the converters' numeric parsing with the {@link NumberFormat} based parsing they used
+ * previously.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+public class NumberParsingBenchmarks {
+
+  /** Parses longs with a new {@link NumberFormat}, for every value. */
+  @Benchmark
+  public void parseLongWithNumberFormat(NumbersState state, Blackhole blackhole)
+      throws ParseException {
+    for (String value : state.longs) {
+      blackhole.consume(NumberFormat.getInstance().parse(value).longValue());
+    }
+  }
+
+  /** Parses longs with {@link Cast#asLong()}. */
+  @Benchmark
+  public void parseLongWithConverter(NumbersState state, Blackhole blackhole) {
+    for (String value : state.longs) {
+      blackhole.consume(state.longConverter.decode(value));
+    }
+  }
+
+  /** Parses doubles with a new {@link NumberFormat}, for every value. */
+  @Benchmark
+  public void parseDoubleWithNumberFormat(NumbersState state, Blackhole blackhole)
+      throws ParseException {
+    for (String value : state.doubles) {
+      blackhole.consume(NumberFormat.getInstance().parse(value).doubleValue());
+    }
+  }
+
+  /** Parses doubles with {@link Cast#asDouble()}. */
+  @Benchmark
+  public void parseDoubleWithConverter(NumbersState state, Blackhole blackhole) {
+    for (String value : state.doubles) {
+      blackhole.consume(state.doubleConverter.decode(value));
+    }
+  }
+
+  /** Splits and parses a list of longs, as the list converters did previously. */
+  @Benchmark
+  public List<Long> parseListOfLongWithNumberFormat(NumbersState state) {
+    return Stream.of(state.longList.split(","))
+        .map(
+            value -> {
+              try {
+                return NumberFormat.getInstance().parse(value).longValue();
+              } catch (ParseException e) {
+                throw new IllegalStateException(e);
+              }
+            })
+        .collect(Collectors.toList());
+  }
+
+  /** Parses a list of longs with {@link Cast#asListOfLong()}. */
+  @Benchmark
+  public List<Long> parseListOfLongWithConverter(NumbersState state) {
+    return state.longListConverter.decode(state.longList);
+  }
+
+  /** Holds the values to parse. */
+  @State(Scope.Benchmark)
+  public static class NumbersState {
+    final Converter<Long> longConverter = Cast.asLong();
+    final Converter<Double> doubleConverter = Cast.asDouble();
+    final Converter<List<Long>> longListConverter = Cast.asListOfLong();
+    final List<String> longs = new ArrayList<>();
+    final List<String> doubles = new ArrayList<>();
+    final String longList;
+
+    /** Generates pseudo-random values. */
+    public NumbersState() {
+      long baseValue = 1_600_000_000_000L;
+      for (int i = 0; i < 100; i++) {
+        longs.add(String.valueOf(baseValue + i * 7919L));
+        doubles.add(String.valueOf((baseValue + i) / 1000.0));
+      }
+      longList = String.join(",", longs);
+    }
+  }
+}
@@ -34,6 +34,8 @@ public abstract class AbstractProp<T> implements Prop<T> {
   private final boolean isSecret;
   //  deepcode ignore AvoidUsingVolatile: support high-concurrency scenarios
   @Nullable private volatile T currentValue;
+  //  deepcode ignore AvoidUsingVolatile: support high-concurrency scenarios
+  @Nullable private volatile String rawValue;
 
   /**
    * Constructs a new property class.
@@ -105,6 +107,17 @@ public abstract class AbstractProp<T> implements Prop<T> {
     return currentValue;
   }
 
+  /** Records the raw value from which the current value was decoded. */
+  void setRawValue(@Nullable String rawValue) {
+    this.rawValue = rawValue;
+  }
+
+  /** Retrieve the raw value from which the current value was decoded. */
+  @Nullable
+  String getRawValueInternal() {
+    return rawValue;
+  }
+
   /** Retrieve this Prop's effective value or <code>null</code>. */
   @Override
   @Nullable
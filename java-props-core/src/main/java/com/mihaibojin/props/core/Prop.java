@@ -18,6 +18,8 @@ package com.mihaibojin.props.core;
 
 import com.mihaibojin.props.core.annotations.Nullable;
 import com.mihaibojin.props.core.converters.Converter;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -43,6 +45,24 @@ public interface Prop<T> extends Converter<T> {
   @Nullable
   T value();
 
+  /**
+   * Returns the property's current value, without blocking the caller.
+   *
+   * <p>Bound props are kept up to date by their registry, so the default implementation completes
+   * immediately; implementations which retrieve their value on demand should complete the returned
+   * future within the specified <code>deadline</code>.
+   *
+   * @return a future which completes with the current value, or exceptionally if the value could
+   *     not be validated
+   */
+  default CompletableFuture<T> valueAsync(Duration deadline) {
+    try {
+      return CompletableFuture.completedFuture(value());
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /** Allows the caller to subscribe to value updates (and any observed errors). */
   void onUpdate(Consumer<T> consumer, Consumer<Throwable> errConsumer);
 
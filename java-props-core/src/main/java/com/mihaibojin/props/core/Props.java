@@ -21,50 +21,120 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.logging.Level.FINER;
 import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
 
 import com.mihaibojin.props.core.annotations.Nullable;
 import com.mihaibojin.props.core.converters.Cast;
 import com.mihaibojin.props.core.converters.Converter;
+import com.mihaibojin.props.core.converters.ConverterRegistry;
+import com.mihaibojin.props.core.converters.ImmutableConverter;
+import com.mihaibojin.props.core.converters.MemoizingConverter;
+import com.mihaibojin.props.core.internal.CircuitBreaker;
+import com.mihaibojin.props.core.internal.KeyFilter;
+import com.mihaibojin.props.core.internal.SnapshotUtils;
 import com.mihaibojin.props.core.internal.TemplateStringUtils;
+import com.mihaibojin.props.core.resolvers.AsyncResolver;
+import com.mihaibojin.props.core.resolvers.InterestRegistry;
 import com.mihaibojin.props.core.resolvers.PropertyFileResolver;
 import com.mihaibojin.props.core.resolvers.Resolver;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 public class Props {
 
   private static final Logger log = Logger.getLogger(PropertyFileResolver.class.getName());
+  private static final int MAX_MEMOIZED_CONVERTERS = 64;
   private final ScheduledExecutorService executor;
+  private final ExecutorService reloadExecutor;
+  private final ExecutorService lookupExecutor;
   private final Map<String, Prop<?>> boundProps = new ConcurrentHashMap<>();
   private final Map<String, String> propIdToResolver = new ConcurrentHashMap<>();
   private final CountDownLatch latch = new CountDownLatch(1);
+  private final CompletableFuture<Void> initialLoad = new CompletableFuture<>();
+  private final Set<String> pushResolvers = ConcurrentHashMap.newKeySet();
+  private final List<ChangeSubscriber> changeSubscribers = new CopyOnWriteArrayList<>();
+  private final Map<String, Long> reloadedVersions = new ConcurrentHashMap<>();
+  // keys updated by reloads which have not yet been consumed by a refresh
+  private final Set<String> reloadedKeys = ConcurrentHashMap.newKeySet();
+  private final Map<String, KeyFilter> keyFilters = new ConcurrentHashMap<>();
+  private final InterestRegistry interests;
+  private final Map<String, Resolver> interestResolvers;
+  // completes once the next scheduled reload of interest-filtered resolvers has finished
+  private final AtomicReference<CompletableFuture<Void>> pendingInterestReload =
+      new AtomicReference<>();
 
   private final List<String> prioritizedResolvers;
   private final Map<String, Resolver> resolvers;
   private final Duration shutdownGracePeriod;
   private final Duration refreshInterval;
+  private final Duration reloadTimeout;
+  private final Map<String, CircuitBreaker> circuitBreakers;
+  private final ConverterRegistry converters;
+  private final int decodeCacheSize;
+  // memoizing decorators of the immutable converters used for on-the-spot reads
+  private final Map<Converter<?>, Converter<?>> memoizedConverters = new ConcurrentHashMap<>();
+
+  @Nullable private final Path snapshotFile;
+  private final AtomicBoolean snapshotDirty = new AtomicBoolean(true);
+  //  deepcode ignore AvoidUsingVolatile: read by every lookup until the initial load completes
+  @Nullable private volatile Map<String, String> warmSnapshot;
+  //  deepcode ignore AvoidUsingVolatile: set when the refresh executor creates its thread
+  @Nullable private volatile Thread refreshThread;
 
   private Props(
       LinkedHashMap<String, Resolver> resolvers,
       Duration refreshInterval,
-      Duration shutdownGracePeriod) {
+      Duration shutdownGracePeriod,
+      @Nullable Path snapshotFile,
+      InterestRegistry interests,
+      Duration reloadTimeout,
+      int failureThreshold,
+      Duration maxBackoff,
+      ConverterRegistry converters,
+      int decodeCacheSize) {
     this.resolvers = Collections.unmodifiableMap(resolvers);
 
+    // allow resolvers which support it to only load the keys which are of interest
+    this.interests = interests;
+    Map<String, Resolver> filtering = new LinkedHashMap<>();
+    for (Entry<String, Resolver> entry : resolvers.entrySet()) {
+      if (entry.getValue().useInterests(interests)) {
+        filtering.put(entry.getKey(), entry.getValue());
+      }
+    }
+    interestResolvers = Collections.unmodifiableMap(filtering);
+
     // generate a list of resolver IDs, ordered by priority (highest first)
     ArrayList<String> ids = new ArrayList<>(resolvers.keySet());
     Collections.reverse(ids);
@@ -72,48 +142,210 @@ public class Props {
 
     this.refreshInterval = refreshInterval;
     this.shutdownGracePeriod = shutdownGracePeriod;
+    this.snapshotFile = snapshotFile;
+    this.converters = converters;
+    this.decodeCacheSize = decodeCacheSize;
+
+    // track the failures of each resolver, backing off from those which keep failing
+    this.reloadTimeout = reloadTimeout;
+    Map<String, CircuitBreaker> breakers = new HashMap<>();
+    for (String id : resolvers.keySet()) {
+      breakers.put(id, new CircuitBreaker(failureThreshold, refreshInterval, maxBackoff));
+    }
+    circuitBreakers = Collections.unmodifiableMap(breakers);
+
+    // if a last-known-good snapshot exists, serve values from it until all resolvers have loaded
+    if (!isNull(snapshotFile)) {
+      Map<String, String> snapshot = SnapshotUtils.read(snapshotFile);
+      if (!snapshot.isEmpty()) {
+        warmSnapshot = snapshot;
+      }
+    }
 
     // create an executor with Daemon threads, allowing the executor to shutdown when all
     // non-daemon threads exit
     // this executor will only be used for refreshing resolvers, and as such a single
     // thread should ever be run at the same time
+    ThreadFactory daemonThreads =
+        runnable -> {
+          Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+          thread.setDaemon(true);
+          return thread;
+        };
     executor =
         Executors.newScheduledThreadPool(
             1,
             runnable -> {
-              Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-              thread.setDaemon(true);
+              Thread thread = daemonThreads.newThread(runnable);
+              refreshThread = thread;
               return thread;
             });
 
+    // resolvers are reloaded in parallel, on separate threads, allowing the refresh thread to stop
+    // waiting for resolvers which do not complete in time
+    reloadExecutor = Executors.newCachedThreadPool(daemonThreads);
+
+    // asynchronous lookups continue on separate threads, so that synchronous resolvers and
+    // converters are never called by the threads which complete async resolvers' futures
+    lookupExecutor = Executors.newCachedThreadPool(daemonThreads);
+
     // register a shutdown hook, allowing the executor to gracefully shutdown
     Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
 
     // perform an initial load, ensuring that all resolvers have values
     executor.submit(
         () -> {
-          this.resolvers.entrySet().parallelStream().forEach(Props::safeReload);
+          reloadWithDeadline(this.resolvers.entrySet());
+          Map<String, String> snapshot = warmSnapshot;
+          warmSnapshot = null;
           latch.countDown();
+          initialLoad.complete(null);
+
+          reconcileWarmStart(snapshot);
+          persistSnapshot();
         });
 
+    // subscribe to resolvers which can push their changes, instead of polling them
+    for (Entry<String, Resolver> entry : this.resolvers.entrySet()) {
+      Flow.Publisher<Set<String>> changes = entry.getValue().changes();
+      if (!isNull(changes)) {
+        pushResolvers.add(entry.getKey());
+        ChangeSubscriber subscriber = new ChangeSubscriber(entry);
+        changeSubscribers.add(subscriber);
+        changes.subscribe(subscriber);
+      }
+    }
+
     // and schedule a period refresh operation
     executor.scheduleAtFixedRate(
-        () -> refreshResolvers(this.resolvers),
+        this::safeRefreshResolvers,
         refreshInterval.toMillis(),
         refreshInterval.toMillis(),
         TimeUnit.MILLISECONDS);
   }
 
   /**
-   * Safely reload all the values managed by the specified {@link Resolver} and logs any exceptions.
+   * Reloads all the values managed by the specified {@link Resolver} and refreshes its membership
+   * filter.
+   *
+   * <p>Versioned resolvers are skipped if their {@link Resolver#version()} did not change since
+   * they were last reloaded successfully.
    */
-  private static Set<String> safeReload(Entry<String, Resolver> res) {
-    try {
-      return res.getValue().reload();
-    } catch (Throwable t) {
-      log.log(SEVERE, t, () -> format("Unexpected error reloading props from %s", res.getKey()));
+  private Set<String> reload(Entry<String, Resolver> res) {
+    // the version is read before reloading; any concurrent changes will trigger another reload
+    long version = res.getValue().version();
+    Long reloaded = reloadedVersions.get(res.getKey());
+    if (version != Resolver.UNVERSIONED && !isNull(reloaded) && reloaded == version) {
+      return Set.of();
+    }
+
+    Set<String> keys = res.getValue().reload();
+    if (version != Resolver.UNVERSIONED) {
+      reloadedVersions.put(res.getKey(), version);
+    }
+    if (!keys.isEmpty() || !keyFilters.containsKey(res.getKey())) {
+      refreshKeyFilter(res);
+    }
+    return keys;
+  }
+
+  /**
+   * Reloads the specified resolvers in parallel and returns all the keys they updated.
+   *
+   * <p>Each reload must complete within the configured timeout; otherwise it is cancelled and,
+   * like reloads which fail with an exception, counted towards opening the resolver's {@link
+   * CircuitBreaker}. Resolvers with an open breaker, or whose previous reload is still running,
+   * are skipped, and keep serving the values from their last successful reload.
+   *
+   * <p>Reloads which complete after the deadline (e.g., because they ignored the cancellation) may
+   * have already updated their resolvers; the keys they return are included in the result of the
+   * next call.
+   */
+  private Set<String> reloadWithDeadline(Collection<Entry<String, Resolver>> entries) {
+    long start = System.nanoTime();
+    Map<String, Future<Set<String>>> reloads = new LinkedHashMap<>();
+    for (Entry<String, Resolver> entry : entries) {
+      CircuitBreaker breaker = circuitBreakers.get(entry.getKey());
+      if (!breaker.tryAcquire(start)) {
+        if (log.isLoggable(FINER)) {
+          log.finer(() -> format("Skipping reload of %s", entry.getKey()));
+        }
+        continue;
+      }
+
+      try {
+        reloads.put(
+            entry.getKey(),
+            reloadExecutor.submit(
+                () -> {
+                  try {
+                    Set<String> reloaded = reload(entry);
+                    // record the keys here, so that they are not lost if the reload completes late
+                    reloadedKeys.addAll(reloaded);
+                    return reloaded;
+                  } finally {
+                    breaker.release();
+                  }
+                }));
+      } catch (RejectedExecutionException e) {
+        breaker.release();
+        log.log(FINER, e, () -> "Ignoring reload requested after shutdown");
+      }
+    }
+
+    // wait for all reloads to complete, or for the deadline to pass
+    long deadline = start + reloadTimeout.toNanos();
+    for (Entry<String, Future<Set<String>>> reload : reloads.entrySet()) {
+      String id = reload.getKey();
+      CircuitBreaker breaker = circuitBreakers.get(id);
+      try {
+        reload.getValue().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        breaker.recordSuccess();
+
+      } catch (TimeoutException e) {
+        reload.getValue().cancel(true);
+        breaker.recordFailure(System.nanoTime());
+        log.warning(() -> format("Reloading %s timed out after %s", id, reloadTimeout));
+
+      } catch (ExecutionException e) {
+        breaker.recordFailure(System.nanoTime());
+        log.log(
+            SEVERE, e.getCause(), () -> format("Unexpected error reloading props from %s", id));
+
+      } catch (InterruptedException e) {
+        log.log(WARNING, e, () -> "Interrupted while reloading resolvers");
+        reloads.values().forEach(future -> future.cancel(true));
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    // collect the keys of all completed reloads, including any that previously completed late
+    Set<String> keys = new HashSet<>();
+    for (Iterator<String> it = reloadedKeys.iterator(); it.hasNext(); ) {
+      keys.add(it.next());
+      it.remove();
     }
-    return Set.of();
+    return keys;
+  }
+
+  /**
+   * Rebuilds the membership filter of the specified resolver, if it can enumerate its {@link
+   * Resolver#keys()}.
+   */
+  private void refreshKeyFilter(Entry<String, Resolver> res) {
+    Set<String> keys = res.getValue().keys();
+    if (isNull(keys)) {
+      keyFilters.remove(res.getKey());
+    } else {
+      keyFilters.put(res.getKey(), KeyFilter.of(keys));
+    }
+  }
+
+  /** Returns false if the specified resolver definitely does not define the key. */
+  private boolean mightContain(String resolverId, String key) {
+    KeyFilter filter = keyFilters.get(resolverId);
+    return isNull(filter) || filter.mightContain(key);
   }
 
   /** Convenience method for configuring {@link Props} registry objects. */
@@ -146,7 +378,9 @@ public class Props {
       propIdToResolver.put(prop.key(), resolverId);
     }
 
+    registerInterest(List.of(prop));
     update(prop);
+    snapshotDirty.set(true);
 
     return prop;
   }
@@ -160,6 +394,39 @@ public class Props {
     return bind(prop, null);
   }
 
+  /**
+   * Binds all the specified props to the current {@link Props} registry and resolves their values
+   * in bulk, calling {@link Resolver#getAll(Collection)} once per resolver.
+   *
+   * <p>Props which can be bound are bound, even if another prop in the batch fails.
+   *
+   * @throws BindException if attempting to bind a {@link Prop} for a key which was already bound to
+   *     another object
+   * @see #bind(Prop)
+   */
+  public void bindAll(Collection<? extends Prop<?>> props) {
+    List<Prop<?>> bound = new ArrayList<>(props.size());
+    BindException failure = null;
+    for (Prop<?> prop : props) {
+      Prop<?> oldProp = boundProps.putIfAbsent(prop.key(), prop);
+      if (nonNull(oldProp) && oldProp != prop) {
+        if (isNull(failure)) {
+          failure = new BindException(prop.key(), oldProp);
+        }
+        continue;
+      }
+      bound.add(prop);
+    }
+
+    registerInterest(bound);
+    updateAll(bound);
+    snapshotDirty.set(true);
+
+    if (!isNull(failure)) {
+      throw failure;
+    }
+  }
+
   /**
    * Returns an existing (bound) {@link Prop} object, or <code>null</code> if one does not exist for
    * the specified key.
@@ -187,16 +454,40 @@ public class Props {
    * @return true if the property was updated, or false if it kept its value
    */
   protected <T> boolean update(Prop<T> prop) {
-    // retrieve the Prop's current value
-    T currentValue = ((AbstractProp<T>) prop).getValueInternal();
-
     // determine if the prop is linked to a specific resolver
     String resolverId = propIdToResolver.get(prop.key());
     // resolve the Props' updated value
-    T updatedValue = resolveProp(prop, resolverId);
+    return update(prop, resolveRawByKey(prop.key(), resolverId));
+  }
+
+  /**
+   * Updates the {@link Prop}'s current value from an already resolved raw value.
+   *
+   * <p>If the raw value did not change since the prop was last updated, it is neither decoded, nor
+   * compared to the current value.
+   *
+   * @return true if the property was updated, or false if it kept its value
+   */
+  private <T> boolean update(Prop<T> prop, @Nullable String value) {
+    AbstractProp<T> abstractProp = (AbstractProp<T>) prop;
+    if (Objects.equals(abstractProp.getRawValueInternal(), value)) {
+      return false;
+    }
 
-    // if the value has changed
-    if (!Objects.equals(currentValue, updatedValue)) {
+    T currentValue = abstractProp.getValueInternal();
+    T updatedValue = isNull(value) ? null : prop.decode(value);
+    boolean updated = setIfChanged(prop, currentValue, updatedValue);
+
+    // only record the raw value once it was decoded and validated successfully
+    abstractProp.setRawValue(value);
+    return updated;
+  }
+
+  /** Sets the {@link Prop}'s value, if it differs from the current one. */
+  private static <T> boolean setIfChanged(
+      Prop<T> prop, @Nullable T currentValue, @Nullable T updatedValue) {
+    // if the value has changed (arrays are compared by their contents)
+    if (!safeDeepEquals(currentValue, updatedValue)) {
       // update the current value
       ((AbstractProp<T>) prop).setValue(updatedValue);
       return true;
@@ -206,10 +497,42 @@ public class Props {
     return false;
   }
 
-  /** Search all resolvers for a value. */
-  @Nullable
-  <T> T resolveProp(Prop<T> prop, @Nullable String resolverId) {
-    return resolveByKey(prop.key(), prop, resolverId);
+  /**
+   * Compares the specified values by their contents, considering them different if the comparison
+   * fails (e.g., because a lazy list contains elements which cannot be parsed).
+   */
+  private static boolean safeDeepEquals(@Nullable Object current, @Nullable Object updated) {
+    try {
+      return Objects.deepEquals(current, updated);
+    } catch (RuntimeException e) {
+      log.log(FINER, e, () -> "Could not compare values; assuming they differ");
+      return false;
+    }
+  }
+
+  /**
+   * Updates all the specified props, resolving their values with a single {@link
+   * Resolver#getAll(Collection)} call per resolver.
+   */
+  private void updateAll(Collection<? extends Prop<?>> props) {
+    if (props.isEmpty()) {
+      return;
+    }
+
+    // while serving from the warm-start snapshot, resolve each prop individually
+    if (!isNull(warmSnapshot) && latch.getCount() > 0) {
+      props.forEach(this::update);
+      return;
+    }
+
+    if (!waitForInitialLoad()) {
+      return;
+    }
+
+    Map<String, String> values = resolveRawAll(props);
+    for (Prop<?> prop : props) {
+      update(prop, values.get(prop.key()));
+    }
   }
 
   /**
@@ -219,6 +542,33 @@ public class Props {
    */
   @Nullable
   <T> T resolveByKey(String key, Converter<T> converter, @Nullable String resolverId) {
+    String value = resolveRawByKey(key, resolverId);
+    if (isNull(value)) {
+      return null;
+    }
+
+    // the value is decoded separately from resolving it, to reduce confusion in a potential
+    // stacktrace, since the problem would be related to decoding the retrieved string and not with
+    // resolving the value
+    return converter.decode(value);
+  }
+
+  /**
+   * Searches all resolvers for the specified key and returns its raw value.
+   *
+   * <p>If a <code>resolverId</code> is specified, only search the matching resolver.
+   */
+  @Nullable
+  private String resolveRawByKey(String key, @Nullable String resolverId) {
+    // while the resolvers are still loading, serve any values available in the warm-start snapshot
+    Map<String, String> snapshot = warmSnapshot;
+    if (isNull(resolverId) && !isNull(snapshot) && latch.getCount() > 0) {
+      String value = snapshot.get(key);
+      if (!isNull(value)) {
+        return value;
+      }
+    }
+
     if (!waitForInitialLoad()) {
       return null;
     }
@@ -226,28 +576,28 @@ public class Props {
     if (nonNull(resolverId)) {
       // if the prop is bound to a single resolver, return it on the spot
       Resolver resolver = resolvers.get(resolverId);
-      if (isNull(resolver)) {
-        return null;
-      }
-
-      String val = resolver.get(key);
-      if (isNull(val)) {
+      if (isNull(resolver) || !mightContain(resolverId, key)) {
         return null;
       }
 
-      //  deepcode ignore AvoidBranchingStatementAsLastInLoop: improved logic readability
-      return converter.decode(val);
+      return getFromLayer(resolverId, resolver, key);
     }
 
+    return resolveRaw(key);
+  }
+
+  /** Searches all resolvers, in priority order, and returns the first value found for the key. */
+  @Nullable
+  private String resolveRaw(String key) {
     for (String id : prioritizedResolvers) {
       // search each resolver, in priority order
       Resolver resolver = resolvers.get(id);
-      if (isNull(resolver)) {
+      if (isNull(resolver) || !mightContain(id, key)) {
         continue;
       }
 
       // find the appropriate value, if it exists
-      String value = resolver.get(key);
+      String value = getFromLayer(id, resolver, key);
       if (isNull(value)) {
         continue;
       }
@@ -258,16 +608,368 @@ public class Props {
         log.log(FINER, () -> format("%s resolved by %s", key, id));
       }
 
-      // return an optional which decodes the value on get
-      // the reason for lazy decoding is to reduce confusion in a potential stacktrace
-      // since the problem would be related to decoding the retrieved string and not with
-      // resolving the value
-      return converter.decode(value);
+      //  deepcode ignore AvoidBranchingStatementAsLastInLoop: improved logic readability
+      return value;
     }
 
     return null;
   }
 
+  /**
+   * Retrieves the key from the resolver, treating it as not defining the key if the lookup fails
+   * (e.g., an {@link AsyncResolver} which does not answer in time).
+   */
+  @Nullable
+  private String getFromLayer(String id, Resolver resolver, String key) {
+    try {
+      return resolver.get(key);
+    } catch (CompletionException e) {
+      log.log(WARNING, e, () -> format("Could not resolve %s from %s", key, id));
+      return null;
+    }
+  }
+
+  /**
+   * Resolves the raw values of all the specified props, calling {@link Resolver#getAll(Collection)}
+   * once per resolver, and only for the keys which were not already found in a higher priority
+   * resolver.
+   */
+  private Map<String, String> resolveRawAll(Collection<? extends Prop<?>> props) {
+    Map<String, String> values = new HashMap<>();
+
+    // group the keys by the resolver they are linked to, if any
+    Set<String> pending = new HashSet<>();
+    Map<String, Set<String>> linked = new HashMap<>();
+    for (Prop<?> prop : props) {
+      String resolverId = propIdToResolver.get(prop.key());
+      if (isNull(resolverId)) {
+        pending.add(prop.key());
+      } else {
+        linked.computeIfAbsent(resolverId, id -> new HashSet<>()).add(prop.key());
+      }
+    }
+
+    for (Entry<String, Set<String>> entry : linked.entrySet()) {
+      Resolver resolver = resolvers.get(entry.getKey());
+      if (!isNull(resolver)) {
+        values.putAll(getAllFiltered(entry.getKey(), resolver, entry.getValue()));
+      }
+    }
+
+    // search each resolver, in priority order, for the keys which were not yet found
+    for (String id : prioritizedResolvers) {
+      Resolver resolver = resolvers.get(id);
+      if (pending.isEmpty()) {
+        break;
+      } else if (isNull(resolver)) {
+        continue;
+      }
+
+      Map<String, String> found = getAllFiltered(id, resolver, pending);
+      values.putAll(found);
+      pending.removeAll(found.keySet());
+    }
+
+    return values;
+  }
+
+  /**
+   * Retrieves the specified keys from the resolver, skipping any keys which its membership filter
+   * excludes; if the lookup fails, the resolver is treated as not defining any of the keys.
+   */
+  private Map<String, String> getAllFiltered(String id, Resolver resolver, Set<String> keys) {
+    Collection<String> candidates = Collections.unmodifiableSet(keys);
+    KeyFilter filter = keyFilters.get(id);
+    if (!isNull(filter)) {
+      candidates = new ArrayList<>(keys.size());
+      for (String key : keys) {
+        if (filter.mightContain(key)) {
+          candidates.add(key);
+        }
+      }
+      if (candidates.isEmpty()) {
+        return Map.of();
+      }
+    }
+
+    try {
+      return resolver.getAll(candidates);
+    } catch (CompletionException e) {
+      log.log(WARNING, e, () -> format("Could not resolve %d keys from %s", keys.size(), id));
+      return Map.of();
+    }
+  }
+
+  /**
+   * Asynchronously searches all resolvers for the specified key and converts the result to the
+   * designated type, without blocking the caller.
+   *
+   * <p>{@link AsyncResolver}s are queried via {@link AsyncResolver#getAsync(String)}; if one does
+   * not answer before the <code>deadline</code>, or fails, it is treated as not defining the key
+   * and the search continues with the next resolver. Other resolvers are queried synchronously,
+   * since they answer from memory. The search and decoding run on a dedicated thread pool, never on
+   * the threads which complete the async resolvers' futures.
+   *
+   * @param deadline the maximum time to wait for the initial load and for any async resolvers, or
+   *     <code>null</code> to wait indefinitely
+   */
+  <T> CompletableFuture<T> resolveByKeyAsync(
+      String key,
+      Converter<T> converter,
+      @Nullable String resolverId,
+      @Nullable Duration deadline) {
+    // while the resolvers are still loading, serve any values available in the warm-start snapshot
+    Map<String, String> snapshot = warmSnapshot;
+    if (isNull(resolverId) && !isNull(snapshot) && latch.getCount() > 0) {
+      String value = snapshot.get(key);
+      if (!isNull(value)) {
+        return CompletableFuture.supplyAsync(() -> converter.decode(value), Runnable::run);
+      }
+    }
+
+    long deadlineNanos = isNull(deadline) ? Long.MAX_VALUE : System.nanoTime() + deadline.toNanos();
+    CompletableFuture<Void> loaded = initialLoad;
+    if (!isNull(deadline)) {
+      // if the initial load does not complete in time, search whatever was already loaded
+      loaded = initialLoad.copy().completeOnTimeout(null, deadline.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    return loaded
+        .thenComposeAsync(
+            ignored -> {
+              List<String> ids = isNull(resolverId) ? prioritizedResolvers : List.of(resolverId);
+              return resolveLayerAsync(key, ids, 0, deadlineNanos);
+            },
+            lookupExecutor)
+        .thenApplyAsync(value -> isNull(value) ? null : converter.decode(value), lookupExecutor);
+  }
+
+  /**
+   * Searches the specified resolvers, starting at <code>index</code>, and returns the first value
+   * found for the key.
+   */
+  private CompletableFuture<String> resolveLayerAsync(
+      String key, List<String> ids, int index, long deadlineNanos) {
+    for (int i = index; i < ids.size(); i++) {
+      String id = ids.get(i);
+      Resolver resolver = resolvers.get(id);
+      if (isNull(resolver) || !mightContain(id, key)) {
+        continue;
+      }
+
+      if (!(resolver instanceof AsyncResolver)) {
+        String value = resolver.get(key);
+        if (!isNull(value)) {
+          return CompletableFuture.completedFuture(value);
+        }
+        continue;
+      }
+
+      // continue searching the remaining resolvers if the value was not found in time
+      int next = i + 1;
+      return withDeadline((AsyncResolver) resolver, id, key, deadlineNanos)
+          .thenComposeAsync(
+              value ->
+                  isNull(value)
+                      ? resolveLayerAsync(key, ids, next, deadlineNanos)
+                      : CompletableFuture.completedFuture(value),
+              lookupExecutor);
+    }
+
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Looks up the key in the specified resolver; the returned future completes with <code>null
+   * </code> if the lookup fails or if it does not complete before the deadline.
+   */
+  private static CompletableFuture<String> withDeadline(
+      AsyncResolver resolver, String id, String key, long deadlineNanos) {
+    // copy the resolver's future, to avoid completing it on timeout
+    CompletableFuture<String> lookup =
+        resolver
+            .getAsync(key)
+            .exceptionally(
+                t -> {
+                  log.log(SEVERE, t, () -> format("Could not resolve %s from %s", key, id));
+                  return null;
+                });
+
+    if (deadlineNanos != Long.MAX_VALUE) {
+      long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+      lookup.completeOnTimeout(null, remaining, TimeUnit.NANOSECONDS);
+    }
+    return lookup;
+  }
+
+  /**
+   * Registers the keys of the specified props as being of interest and, if any of them were not
+   * already, reloads all resolvers which only load keys of interest, so that the props can be
+   * resolved when they are bound.
+   *
+   * <p>The reload runs on the refresh executor and the caller waits for it for a bounded time,
+   * unless values are still served from the warm-start snapshot, in which case the props are
+   * updated once the reload completes.
+   */
+  private void registerInterest(Collection<? extends Prop<?>> props) {
+    if (interestResolvers.isEmpty()) {
+      return;
+    }
+
+    boolean added = false;
+    for (Prop<?> prop : props) {
+      added |= interests.addKey(prop.key());
+    }
+    if (!added) {
+      return;
+    }
+
+    // avoid waiting for the refresh executor from its own thread
+    if (Thread.currentThread() == refreshThread) {
+      reloadInterestResolvers();
+      return;
+    }
+
+    CompletableFuture<Void> reload = scheduleInterestReload();
+    if (!isNull(warmSnapshot) && latch.getCount() > 0) {
+      return;
+    }
+
+    try {
+      // wait for a refresh which may already be running, and for the reload itself
+      reload.get(reloadTimeout.toNanos() * 2, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException | ExecutionException e) {
+      log.log(WARNING, e, () -> "Could not reload the keys of interest in time");
+    } catch (InterruptedException e) {
+      log.log(WARNING, e, () -> "Interrupted while reloading the keys of interest");
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Schedules a reload of all resolvers which only load keys of interest on the refresh executor,
+   * unless one is already scheduled (but not started), in which case it will also load the keys
+   * registered until it starts.
+   */
+  private CompletableFuture<Void> scheduleInterestReload() {
+    while (true) {
+      CompletableFuture<Void> pending = pendingInterestReload.get();
+      if (!isNull(pending)) {
+        return pending;
+      }
+
+      CompletableFuture<Void> reload = new CompletableFuture<>();
+      if (!pendingInterestReload.compareAndSet(null, reload)) {
+        continue;
+      }
+
+      try {
+        executor.execute(
+            () -> {
+              // any keys registered from this point on will schedule another reload
+              pendingInterestReload.compareAndSet(reload, null);
+              try {
+                reloadInterestResolvers();
+              } finally {
+                reload.complete(null);
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        pendingInterestReload.compareAndSet(reload, null);
+        reload.complete(null);
+        log.log(FINER, e, () -> "Ignoring interests registered after shutdown");
+      }
+      return reload;
+    }
+  }
+
+  /**
+   * Reloads all resolvers which only load keys of interest, and updates any bound props whose
+   * values changed, including the props whose keys just became of interest.
+   */
+  private void reloadInterestResolvers() {
+    // force a reload, even if the resolvers' versions did not change
+    interestResolvers.keySet().forEach(reloadedVersions::remove);
+    updateKeys(reloadWithDeadline(interestResolvers.entrySet()));
+  }
+
+  /**
+   * Brings all props that were bound while serving from the warm-start snapshot up to date.
+   *
+   * <p>Props whose raw value did not change since the snapshot was taken are skipped; all others
+   * are updated, which only notifies subscribers of values that actually changed.
+   */
+  private void reconcileWarmStart(@Nullable Map<String, String> snapshot) {
+    if (isNull(snapshot)) {
+      return;
+    }
+
+    Collection<Prop<?>> props = boundProps.values();
+    Map<String, String> values = resolveRawAll(props);
+    for (Prop<?> prop : props) {
+      String key = prop.key();
+      String previous = snapshot.get(key);
+      if (!propIdToResolver.containsKey(key)
+          && !isNull(previous)
+          && previous.equals(values.get(key))) {
+        continue;
+      }
+
+      safeUpdate(prop);
+    }
+  }
+
+  /** Updates the specified prop and logs any exceptions. */
+  private void safeUpdate(Prop<?> prop) {
+    try {
+      update(prop);
+    } catch (RuntimeException e) {
+      log.log(SEVERE, e, () -> format("Could not update %s", prop.key()));
+    }
+  }
+
+  /** Updates the specified prop from an already resolved raw value and logs any exceptions. */
+  private void safeUpdate(Prop<?> prop, @Nullable String value) {
+    try {
+      update(prop, value);
+    } catch (RuntimeException e) {
+      log.log(SEVERE, e, () -> format("Could not update %s", prop.key()));
+    }
+  }
+
+  /**
+   * Writes the raw values of all bound props to the configured snapshot file, if any changed since
+   * the last write.
+   *
+   * <p>Secrets and props linked to a specific resolver are never persisted.
+   */
+  private void persistSnapshot() {
+    if (isNull(snapshotFile) || !snapshotDirty.getAndSet(false)) {
+      return;
+    }
+
+    List<Prop<?>> props = new ArrayList<>();
+    for (Prop<?> prop : boundProps.values()) {
+      if (!prop.isSecret() && !propIdToResolver.containsKey(prop.key())) {
+        props.add(prop);
+      }
+    }
+
+    Map<String, String> resolved = resolveRawAll(props);
+    Map<String, String> values = new LinkedHashMap<>();
+    for (Prop<?> prop : props) {
+      String value = resolved.get(prop.key());
+      if (!isNull(value)) {
+        values.put(prop.key(), value);
+      }
+    }
+
+    if (!SnapshotUtils.write(snapshotFile, values)) {
+      // retry on the next refresh cycle
+      snapshotDirty.set(true);
+    }
+  }
+
   /**
    * Validates the specified <code>resolverId</code>. Throws an exception if a resolver was not
    * found.
@@ -295,6 +997,10 @@ public class Props {
 
     // process all layers and transform them into the final type
     for (Entry<String, Resolver> entry : resolvers.entrySet()) {
+      if (!mightContain(entry.getKey(), prop.key())) {
+        continue;
+      }
+
       String value = entry.getValue().get(prop.key());
       if (!isNull(value)) {
         T resolved = prop.decode(value);
@@ -312,7 +1018,9 @@ public class Props {
    */
   private <T> boolean waitForInitialLoad() {
     try {
-      latch.await(refreshInterval.toSeconds(), TimeUnit.SECONDS);
+      // the initial load is bounded by the reload timeout
+      long timeout = Math.max(refreshInterval.toMillis(), reloadTimeout.toMillis());
+      latch.await(timeout, TimeUnit.MILLISECONDS);
       return true;
 
     } catch (InterruptedException e) {
@@ -322,23 +1030,135 @@ public class Props {
     }
   }
 
+  /**
+   * Refreshes values from all the registered {@link Resolver}s and logs any exceptions, since an
+   * exception would cancel all subsequent refreshes.
+   */
+  private void safeRefreshResolvers() {
+    try {
+      refreshResolvers(resolvers);
+    } catch (Throwable t) {
+      log.log(SEVERE, t, () -> "Unexpected error refreshing props");
+    }
+  }
+
   /** Refreshes values from all the registered {@link Resolver}s. */
   private void refreshResolvers(Map<String, Resolver> resolvers) {
+    List<Entry<String, Resolver>> toReload =
+        resolvers.entrySet().stream()
+            .filter(r -> r.getValue().isReloadable() && !pushResolvers.contains(r.getKey()))
+            .collect(Collectors.toList());
+
+    // we need to collect since we need all layers to have finished their update cycle before
+    // reading them
     Set<? extends Prop<?>> toUpdate =
-        resolvers.entrySet().parallelStream()
-            .filter(r -> r.getValue().isReloadable())
-            .map(Props::safeReload)
-            .flatMap(keys -> keys.stream().map(boundProps::get).filter(Objects::nonNull))
-            // we need to collect since we need all layers to have finished their update cycle
-            // before reading them
+        reloadWithDeadline(toReload).stream()
+            .map(boundProps::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toSet());
 
-    toUpdate.forEach(this::update);
+    if (!toUpdate.isEmpty()) {
+      // update each prop separately, so that a prop which cannot be updated does not affect others
+      Map<String, String> values = resolveRawAll(toUpdate);
+      for (Prop<?> prop : toUpdate) {
+        safeUpdate(prop, values.get(prop.key()));
+      }
+      snapshotDirty.set(true);
+    }
+    persistSnapshot();
+  }
+
+  /** Updates all bound props identified by the specified keys. */
+  private void updateKeys(Set<String> keys) {
+    boolean updated = false;
+    for (String key : keys) {
+      Prop<?> prop = boundProps.get(key);
+      if (!isNull(prop)) {
+        safeUpdate(prop);
+        updated = true;
+      }
+    }
+
+    if (updated) {
+      snapshotDirty.set(true);
+    }
+    persistSnapshot();
+  }
+
+  /**
+   * Receives the keys pushed by a {@link Resolver}'s {@link Resolver#changes() publisher} and
+   * updates the affected props on the refresh executor.
+   */
+  private class ChangeSubscriber implements Flow.Subscriber<Set<String>> {
+
+    private final Entry<String, Resolver> resolver;
+    //  deepcode ignore AvoidUsingVolatile: set by the publisher and read when shutting down
+    @Nullable private volatile Flow.Subscription subscription;
+
+    private ChangeSubscriber(Entry<String, Resolver> resolver) {
+      this.resolver = resolver;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (executor.isShutdown()) {
+        subscription.cancel();
+        return;
+      }
+      subscription.request(Long.MAX_VALUE);
+
+      // pick up any changes made before the subscription was active
+      submit(() -> updateKeys(reloadWithDeadline(List.of(resolver))));
+    }
+
+    @Override
+    public void onNext(Set<String> keys) {
+      submit(
+          () -> {
+            refreshKeyFilter(resolver);
+            updateKeys(keys);
+          });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      log.log(
+          SEVERE,
+          throwable,
+          () -> format("Change stream failed for %s; reverting to polling", resolver.getKey()));
+      pushResolvers.remove(resolver.getKey());
+    }
+
+    @Override
+    public void onComplete() {
+      pushResolvers.remove(resolver.getKey());
+    }
+
+    /** Stops receiving changes from the resolver. */
+    private void cancel() {
+      Flow.Subscription current = subscription;
+      if (!isNull(current)) {
+        current.cancel();
+      }
+    }
+
+    /** Runs the specified task on the refresh executor, unless it was shut down. */
+    private void submit(Runnable task) {
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        log.log(FINER, e, () -> "Ignoring changes received after shutdown");
+      }
+    }
   }
 
   /** Gracefully terminate this class's {@link ScheduledExecutorService}. */
   private void shutdown() {
     log.info(() -> "Shutting down the Props executor...");
+    changeSubscribers.forEach(ChangeSubscriber::cancel);
+    reloadExecutor.shutdownNow();
+    lookupExecutor.shutdown();
     executor.shutdown();
     try {
       executor.awaitTermination(shutdownGracePeriod.toSeconds(), TimeUnit.SECONDS);
@@ -359,12 +1179,29 @@ public class Props {
     return new Builder<>(key, converter);
   }
 
+  /**
+   * Convenience method for building {@link Prop}s of the specified type, decoded by the converter
+   * registered for it in the {@link ConverterRegistry}.
+   *
+   * @throws IllegalArgumentException if no converter was registered for the specified type
+   */
+  public <T> Builder<T> prop(String key, Class<T> type) {
+    return new Builder<>(key, converters.get(type));
+  }
+
   /** Factory class for building {@link Props} registry classes. */
   public static class Factory {
 
     private final LinkedHashMap<String, Resolver> resolvers = new LinkedHashMap<>();
     private Duration refreshInterval = Duration.ofSeconds(30);
     private Duration shutdownGracePeriod = Duration.ofSeconds(10);
+    @Nullable private Path snapshotFile;
+    private final InterestRegistry interests = new InterestRegistry();
+    @Nullable private Duration reloadTimeout;
+    private int failureThreshold = 3;
+    private ConverterRegistry converters = ConverterRegistry.defaults();
+    private int decodeCacheSize = 128;
+    private Duration maxBackoff = Duration.ofMinutes(10);
 
     private Factory() {}
 
@@ -397,6 +1234,82 @@ public class Props {
       return this;
     }
 
+    /**
+     * Enables persisting a last-known-good snapshot of all bound props to the specified file.
+     *
+     * <p>The snapshot is rewritten after every refresh cycle that changed a prop. When the registry
+     * is next created, values are served from the snapshot immediately, while the resolvers load
+     * in the background; once loading completes, only the props whose values differ from the
+     * snapshot are updated.
+     *
+     * <p>Secrets and props linked to a specific resolver are not persisted, and as such they will
+     * still wait for the initial load.
+     */
+    public Factory snapshotFile(Path snapshotFile) {
+      this.snapshotFile = snapshotFile;
+      return this;
+    }
+
+    /**
+     * Sets the maximum duration of a resolver's reload; reloads which take longer are cancelled
+     * and counted as failures. Defaults to the refresh interval.
+     */
+    public Factory reloadTimeout(Duration reloadTimeout) {
+      this.reloadTimeout = reloadTimeout;
+      return this;
+    }
+
+    /**
+     * Configures the circuit breaker which protects each resolver.
+     *
+     * <p>After <code>failureThreshold</code> consecutive failed or timed-out reloads, a resolver is
+     * skipped for one refresh interval, doubling for every subsequent failure, up to <code>
+     * maxBackoff</code>. While skipped, the resolver keeps serving the values from its last
+     * successful reload. Defaults to 3 failures and 10 minutes.
+     */
+    public Factory circuitBreaker(int failureThreshold, Duration maxBackoff) {
+      this.failureThreshold = failureThreshold;
+      this.maxBackoff = maxBackoff;
+      return this;
+    }
+
+    /**
+     * Sets the registry used to look up converters by type. Defaults to {@link
+     * ConverterRegistry#defaults()}.
+     */
+    public Factory converters(ConverterRegistry converters) {
+      this.converters = converters;
+      return this;
+    }
+
+    /**
+     * Sets the number of decoded values remembered for each {@link ImmutableConverter} used by
+     * on-the-spot reads (e.g., {@link Builder#value()}), allowing repeated reads of unchanged keys
+     * to skip decoding. Defaults to 128; <code>0</code> disables memoization.
+     *
+     * <p>Values decoded by other converters (e.g., {@link java.util.Date}s, arrays, or custom
+     * types) are never shared between callers; such converters can opt in by implementing {@link
+     * ImmutableConverter}, or by being decorated with a {@link MemoizingConverter}.
+     */
+    public Factory decodeCacheSize(int decodeCacheSize) {
+      this.decodeCacheSize = decodeCacheSize;
+      return this;
+    }
+
+    /**
+     * Declares that all keys starting with the specified prefix are of interest.
+     *
+     * <p>Resolvers which only load keys of interest (see {@link
+     * Resolver#useInterests(InterestRegistry)}) load matching keys upfront. Otherwise, they only
+     * load the keys of bound props, being reloaded whenever props are bound for new keys, before
+     * the props are resolved; on-the-spot reads (e.g., {@link Builder#value()}) of any other keys
+     * are not served by such resolvers.
+     */
+    public Factory interestedIn(String prefix) {
+      interests.addPrefix(prefix);
+      return this;
+    }
+
     /**
      * Creates the {@link Props} object.
      *
@@ -408,7 +1321,19 @@ public class Props {
         throw new IllegalStateException("Cannot initialize Props without any Resolvers");
       }
 
-      Props props = new Props(resolvers, refreshInterval, shutdownGracePeriod);
+      Duration timeout = isNull(reloadTimeout) ? refreshInterval : reloadTimeout;
+      Props props =
+          new Props(
+              resolvers,
+              refreshInterval,
+              shutdownGracePeriod,
+              snapshotFile,
+              interests,
+              timeout,
+              failureThreshold,
+              maxBackoff,
+              converters,
+              decodeCacheSize);
 
       return props;
     }
@@ -453,6 +1378,30 @@ public class Props {
     return processed;
   }
 
+  /**
+   * Returns a {@link MemoizingConverter} which decorates the specified converter, shared by all
+   * on-the-spot reads which use it, or the converter itself if memoization is disabled, or if the
+   * converter's values are not known to be immutable.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> Converter<T> memoize(Converter<T> converter) {
+    if (decodeCacheSize <= 0 || !(converter instanceof ImmutableConverter)) {
+      return converter;
+    }
+
+    Converter<?> memoized = memoizedConverters.get(converter);
+    if (isNull(memoized)) {
+      // stop memoizing new converters once the limit is reached, in case they are created per read
+      if (memoizedConverters.size() >= MAX_MEMOIZED_CONVERTERS) {
+        return converter;
+      }
+      memoized =
+          memoizedConverters.computeIfAbsent(
+              converter, c -> new MemoizingConverter<>(converter, decodeCacheSize));
+    }
+    return (Converter<T>) memoized;
+  }
+
   /** Builder class for creating custom {@link Prop}s from the current {@link Props} registry. */
   public class Builder<T> {
 
@@ -533,7 +1482,7 @@ public class Props {
      */
     @Nullable
     public T value() {
-      T result = resolveByKey(key, converter, resolverId);
+      T result = resolveByKey(key, memoize(converter), resolverId);
       if (isNull(result)) {
         // if looking for the key did not find the value, choose the default value
         result = defaultValue;
@@ -548,6 +1497,48 @@ public class Props {
       return result;
     }
 
+    /**
+     * Reads the designated key without binding a <code>Prop</code> to the registry, and without
+     * blocking the caller.
+     *
+     * <p>The returned future completes with the value, or with the default value if the key is not
+     * defined; if the prop is required and neither are available, it completes exceptionally with
+     * a {@link ValidationException}.
+     *
+     * @see #valueAsync(Duration)
+     */
+    public CompletableFuture<T> valueAsync() {
+      return valueAsync(resolveByKeyAsync(key, memoize(converter), resolverId, null));
+    }
+
+    /**
+     * Reads the designated key without binding a <code>Prop</code> to the registry, and without
+     * blocking the caller, waiting at most <code>deadline</code> for slow resolvers.
+     *
+     * <p>{@link AsyncResolver}s which do not answer in time are skipped, in favor of the next
+     * resolver, or of the default value.
+     *
+     * @see #valueAsync()
+     */
+    public CompletableFuture<T> valueAsync(Duration deadline) {
+      return valueAsync(resolveByKeyAsync(key, memoize(converter), resolverId, deadline));
+    }
+
+    /** Applies the default value and validates the result of an asynchronous lookup. */
+    private CompletableFuture<T> valueAsync(CompletableFuture<T> lookup) {
+      return lookup.thenApply(
+          value -> {
+            T result = isNull(value) ? defaultValue : value;
+            if (isRequired && isNull(result)) {
+              throw new ValidationException(
+                  format(
+                      "Prop '%s' is required, but neither a value or a default were specified",
+                      key));
+            }
+            return result;
+          });
+    }
+
     /**
      * Shorthand method that reads the value of the specified key, using the provided {@link
      * Converter}.
@@ -560,7 +1551,7 @@ public class Props {
      */
     @Nullable
     public T valueOf(String key, Converter<T> converter) {
-      return resolveByKey(key, converter, null);
+      return resolveByKey(key, memoize(converter), null);
     }
 
     /**
@@ -17,7 +17,7 @@
 package com.mihaibojin.props.core.converters;
 
 /** Converter that casts the inputted {@link String} to a {@link Boolean} value. */
-public interface BooleanConverter extends Converter<Boolean> {
+public interface BooleanConverter extends ImmutableConverter<Boolean> {
 
   @Override
   default Boolean decode(String value) {
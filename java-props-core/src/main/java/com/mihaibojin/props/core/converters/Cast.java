@@ -20,8 +20,10 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper class that makes the API a little bit nicer, e.g.: <code>
@@ -30,74 +32,195 @@ import java.util.List;
  */
 public class Cast {
 
+  // converters are stateless, and therefore shared by all callers
+  private static final Converter<Boolean> BOOLEAN = new BooleanConverter() {};
+  private static final Converter<ChronoUnit> CHRONO_UNIT = new ChronoUnitConverter() {};
+  private static final Converter<CidrSet> CIDR_SET = new CidrSetConverter() {};
+  private static final Converter<Date> DATE = new DateConverter() {};
+  private static final Converter<Double> DOUBLE = new DoubleConverter() {};
+  private static final Converter<double[]> DOUBLE_ARRAY = new DoubleArrayConverter() {};
+  private static final Converter<Duration> DURATION = new DurationConverter() {};
+  private static final Converter<Float> FLOAT = new FloatConverter() {};
+  private static final Converter<Instant> INSTANT = new InstantConverter() {};
+  private static final Converter<int[]> INT_ARRAY = new IntArrayConverter() {};
+  private static final Converter<Integer> INTEGER = new IntegerConverter() {};
+  private static final Converter<List<Long>> LAZY_LIST_OF_LONG = new LazyListOfLongConverter() {};
+  private static final Converter<List<String>> LAZY_LIST_OF_STRING =
+      new LazyListOfStringConverter() {};
+  private static final Converter<List<Double>> LIST_OF_DOUBLE = new ListOfDoubleConverter() {};
+  private static final Converter<List<Float>> LIST_OF_FLOAT = new ListOfFloatConverter() {};
+  private static final Converter<List<Integer>> LIST_OF_INTEGER = new ListOfIntegerConverter() {};
+  private static final Converter<List<Long>> LIST_OF_LONG = new ListOfLongConverter() {};
+  private static final Converter<List<String>> LIST_OF_STRING = new ListOfStringConverter() {};
+  private static final Converter<Long> LONG = new LongConverter() {};
+  private static final Converter<long[]> LONG_ARRAY = new LongArrayConverter() {};
+  private static final Converter<LongSet> LONG_SET = new LongSetConverter() {};
+  private static final Converter<String> STRING = new StringConverter() {};
+  private static final Converter<Path> PATH = (PathConverter) () -> true;
+  private static final Converter<Path> PATH_AS_IS = (PathConverter) () -> false;
+  private static final Converter<PatternSet> PATTERN_SET = new PatternSetConverter() {};
+  private static final List<Converter<Duration>> NUMERIC_DURATIONS = numericDurations();
+
   /** Returns <code>Converter&lt;Boolean&gt;</code>. */
   public static Converter<Boolean> asBoolean() {
-    return new BooleanConverter() {};
+    return BOOLEAN;
   }
 
   /** Returns <code>Converter&lt;ChronoUnit&gt;</code>. */
   public static Converter<ChronoUnit> asChronoUnit() {
-    return new ChronoUnitConverter() {};
+    return CHRONO_UNIT;
+  }
+
+  /**
+   * Returns <code>Converter&lt;CidrSet&gt;</code>, which decodes comma-separated IPv4 and IPv6 CIDR
+   * ranges, e.g. <code>10.0.0.0/8,2001:db8::/32</code>.
+   */
+  public static Converter<CidrSet> asCidrSet() {
+    return CIDR_SET;
   }
 
   /** Returns <code>Converter&lt;Date&gt;</code>. */
   public static Converter<Date> asDate() {
-    return new DateConverter() {};
+    return DATE;
   }
 
   /** Returns <code>Converter&lt;Double&gt;</code>. */
   public static Converter<Double> asDouble() {
-    return new DoubleConverter() {};
+    return DOUBLE;
+  }
+
+  /** Returns <code>Converter&lt;double[]&gt;</code>. */
+  public static Converter<double[]> asDoubleArray() {
+    return DOUBLE_ARRAY;
   }
 
   /** Returns <code>Converter&lt;Duration&gt;</code>. */
   public static Converter<Duration> asDuration() {
-    return new DurationConverter() {};
+    return DURATION;
   }
 
   /** Returns <code>Converter&lt;Float&gt;</code>. */
   public static Converter<Float> asFloat() {
-    return new FloatConverter() {};
+    return FLOAT;
   }
 
   /** Returns <code>Converter&lt;Instant&gt;</code>. */
   public static Converter<Instant> asInstant() {
-    return new InstantConverter() {};
+    return INSTANT;
+  }
+
+  /** Returns <code>Converter&lt;int[]&gt;</code>. */
+  public static Converter<int[]> asIntArray() {
+    return INT_ARRAY;
   }
 
   /** Returns <code>Converter&lt;Integer&gt;</code>. */
   public static Converter<Integer> asInteger() {
-    return new IntegerConverter() {};
+    return INTEGER;
+  }
+
+  /**
+   * Returns <code>Converter&lt;List&lt;Long&gt;&gt;</code>, which parses each element the first
+   * time it is read.
+   */
+  public static Converter<List<Long>> asLazyListOfLong() {
+    return LAZY_LIST_OF_LONG;
+  }
+
+  /**
+   * Returns <code>Converter&lt;List&lt;String&gt;&gt;</code>, which splits each element the first
+   * time it is read.
+   */
+  public static Converter<List<String>> asLazyListOfString() {
+    return LAZY_LIST_OF_STRING;
   }
 
   /** Returns <code>Converter&lt;List&lt;Double&gt;&gt;</code>. */
   public static Converter<List<Double>> asListOfDouble() {
-    return new ListOfDoubleConverter() {};
+    return LIST_OF_DOUBLE;
   }
 
   /** Returns <code>Converter&lt;List&lt;Float&gt;&gt;</code>. */
   public static Converter<List<Float>> asListOfFloat() {
-    return new ListOfFloatConverter() {};
+    return LIST_OF_FLOAT;
   }
 
   /** Returns <code>Converter&lt;List&lt;Integer&gt;&gt;</code>. */
   public static Converter<List<Integer>> asListOfInteger() {
-    return new ListOfIntegerConverter() {};
+    return LIST_OF_INTEGER;
   }
 
   /** Returns <code>Converter&lt;List&lt;Long&gt;&gt;</code>. */
   public static Converter<List<Long>> asListOfLong() {
-    return new ListOfLongConverter() {};
+    return LIST_OF_LONG;
   }
 
   /** Returns <code>Converter&lt;List&lt;String&gt;&gt;</code>. */
   public static Converter<List<String>> asListOfString() {
-    return new ListOfStringConverter() {};
+    return LIST_OF_STRING;
   }
 
   /** Returns <code>Converter&lt;Long&gt;</code>. */
   public static Converter<Long> asLong() {
-    return new LongConverter() {};
+    return LONG;
+  }
+
+  /** Returns <code>Converter&lt;long[]&gt;</code>. */
+  public static Converter<long[]> asLongArray() {
+    return LONG_ARRAY;
+  }
+
+  /**
+   * Returns <code>Converter&lt;LongSet&gt;</code>, which stores large sets of <code>long</code>s
+   * compactly and answers membership queries without boxing.
+   */
+  public static Converter<LongSet> asLongSet() {
+    return LONG_SET;
+  }
+
+  /**
+   * Returns <code>Converter&lt;Map&lt;K, V&gt;&gt;</code>, which decodes entries such as <code>
+   * key1=value1,key2=value2</code>.
+   */
+  public static <K, V> Converter<Map<K, V>> asMapOf(
+      Converter<K> keyConverter, Converter<V> valueConverter) {
+    return asMapOf(keyConverter, valueConverter, ",", "=");
+  }
+
+  /**
+   * Returns <code>Converter&lt;Map&lt;K, V&gt;&gt;</code>.
+   *
+   * @param keyConverter decodes the map's keys
+   * @param valueConverter decodes the map's values, and can itself decode a (nested) map
+   * @param entrySeparator separates the map's entries
+   * @param pairSeparator separates each entry's key from its value
+   */
+  public static <K, V> Converter<Map<K, V>> asMapOf(
+      Converter<K> keyConverter,
+      Converter<V> valueConverter,
+      String entrySeparator,
+      String pairSeparator) {
+    return new MapConverter<>() {
+      @Override
+      public Converter<K> keyConverter() {
+        return keyConverter;
+      }
+
+      @Override
+      public Converter<V> valueConverter() {
+        return valueConverter;
+      }
+
+      @Override
+      public String entrySeparator() {
+        return entrySeparator;
+      }
+
+      @Override
+      public String pairSeparator() {
+        return pairSeparator;
+      }
+    };
   }
 
   /**
@@ -114,7 +237,7 @@ public class Cast {
    * @param unit specifies the {@link ChronoUnit} in which the numeric value is measured
    */
   public static Converter<Duration> asNumericDuration(ChronoUnit unit) {
-    return (NumericDurationConverter) () -> unit;
+    return NUMERIC_DURATIONS.get(unit.ordinal());
   }
 
   /** Returns <code>Converter&lt;Path&gt;</code>. */
@@ -128,11 +251,32 @@ public class Cast {
    * @param expandHomeDirectory if true, expands <code>~</code> to the user's home directory
    */
   public static Converter<Path> asPath(boolean expandHomeDirectory) {
-    return (PathConverter) () -> expandHomeDirectory;
+    return expandHomeDirectory ? PATH : PATH_AS_IS;
+  }
+
+  /**
+   * Returns <code>Converter&lt;PatternSet&gt;</code>, which compiles newline-separated regular
+   * expressions into a single matcher.
+   *
+   * <p>Expressions are not separated by commas, since commas are part of common quantifiers (e.g.,
+   * <code>\d{2,3}</code>). In a properties file, separate the expressions with <code>\n</code>
+   * escapes, e.g., <code>allowed=/health\n/internal/.*</code>.
+   */
+  public static Converter<PatternSet> asPatternSet() {
+    return PATTERN_SET;
   }
 
   /** Returns <code>Converter&lt;String&gt;</code>. */
   public static Converter<String> asString() {
-    return new StringConverter() {};
+    return STRING;
+  }
+
+  /** Creates a numeric duration converter for each {@link ChronoUnit}, indexed by its ordinal. */
+  private static List<Converter<Duration>> numericDurations() {
+    List<Converter<Duration>> converters = new ArrayList<>();
+    for (ChronoUnit unit : ChronoUnit.values()) {
+      converters.add((NumericDurationConverter) () -> unit);
+    }
+    return List.copyOf(converters);
   }
 }
@@ -22,7 +22,7 @@ import com.mihaibojin.props.core.annotations.Nullable;
 import java.time.temporal.ChronoUnit;
 
 /** Converter that casts the inputted {@link String} to an {@link ChronoUnit} value. */
-public interface ChronoUnitConverter extends Converter<ChronoUnit> {
+public interface ChronoUnitConverter extends ImmutableConverter<ChronoUnit> {
 
   @Override
   @Nullable
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Immutable set of IPv4 and IPv6 CIDR ranges (e.g., <code>10.0.0.0/8</code> or <code>2001:db8::/32
+ * </code>), compiled into a binary prefix trie.
+ *
+ * <p>{@link #matches(byte[])} walks the trie one bit at a time, stopping at the first range which
+ * covers the address; it does not allocate, and its cost is bounded by the address' length,
+ * regardless of how many ranges the set holds.
+ *
+ * <p>Addresses without a prefix length are treated as single hosts. Bits past the prefix length are
+ * ignored, and IPv4-mapped IPv6 ranges (e.g., <code>::ffff:10.0.0.0/104</code>) are stored as IPv4
+ * ranges, since {@link InetAddress} represents such addresses as IPv4 addresses.
+ */
+public class CidrSet {
+
+  private static final Logger log = Logger.getLogger(CidrSet.class.getName());
+
+  private static final int IPV4_ROOT = 0;
+  private static final int IPV6_ROOT = 1;
+  private static final int IPV4_MAPPED_PREFIX = 96;
+
+  private final List<String> ranges;
+  // each node's children are stored at 2 * node (0 bit) and 2 * node + 1 (1 bit); since the roots
+  // are never children, 0 marks a missing child
+  private final int[] children;
+  private final boolean[] terminal;
+
+  private CidrSet(List<String> ranges, int[] children, boolean[] terminal) {
+    this.ranges = List.copyOf(ranges);
+    this.children = children;
+    this.terminal = terminal;
+  }
+
+  /**
+   * Creates a set of the specified ranges.
+   *
+   * @throws IllegalArgumentException if any of the ranges cannot be parsed
+   */
+  public static CidrSet of(String... ranges) {
+    TrieBuilder builder = new TrieBuilder();
+    List<String> parsed = new ArrayList<>();
+    for (String range : ranges) {
+      String trimmed = range.trim();
+      if (!builder.insert(trimmed)) {
+        throw new IllegalArgumentException(format("Could not parse '%s' as a CIDR range", range));
+      }
+      parsed.add(trimmed);
+    }
+    return builder.build(parsed);
+  }
+
+  /**
+   * Creates a set of the specified ranges; ranges which cannot be parsed are logged and skipped,
+   * and blank ranges are ignored.
+   */
+  static CidrSet parse(List<String> ranges) {
+    TrieBuilder builder = new TrieBuilder();
+    List<String> parsed = new ArrayList<>();
+    for (String range : ranges) {
+      String trimmed = range.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+
+      if (builder.insert(trimmed)) {
+        parsed.add(trimmed);
+      } else {
+        log.severe(() -> format("Could not parse '%s' as a CIDR range", range));
+      }
+    }
+    return builder.build(parsed);
+  }
+
+  /**
+   * Returns true if the specified address is covered by any of the ranges.
+   *
+   * <p>{@link InetAddress#getAddress()} returns a copy of the address; callers on hot paths which
+   * already hold the address' bytes should call {@link #matches(byte[])} instead.
+   */
+  public boolean matches(InetAddress address) {
+    return matches(address.getAddress());
+  }
+
+  /**
+   * Returns true if the specified address, in network byte order, is covered by any of the ranges.
+   * Addresses which are neither 4 (IPv4) nor 16 (IPv6) bytes long are never matched.
+   */
+  public boolean matches(byte[] address) {
+    int node;
+    if (address.length == 4) {
+      node = IPV4_ROOT;
+    } else if (address.length == 16) {
+      node = IPV6_ROOT;
+    } else {
+      return false;
+    }
+
+    int bits = address.length * 8;
+    for (int i = 0; ; i++) {
+      if (terminal[node]) {
+        return true;
+      }
+      if (i == bits) {
+        return false;
+      }
+
+      node = children[2 * node + bit(address, i)];
+      if (node == 0) {
+        return false;
+      }
+    }
+  }
+
+  /** Returns the ranges in this set, in the order in which they were defined. */
+  public List<String> ranges() {
+    return ranges;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CidrSet)) {
+      return false;
+    }
+
+    CidrSet that = (CidrSet) o;
+    return ranges.equals(that.ranges);
+  }
+
+  @Override
+  public int hashCode() {
+    return ranges.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return ranges.toString();
+  }
+
+  /** Returns the bit at the specified index, counting from the most significant bit. */
+  private static int bit(byte[] address, int index) {
+    return (address[index >>> 3] >>> (7 - (index & 7))) & 1;
+  }
+
+  /**
+   * Parses the specified range's address, without resolving host names, or returns <code>null
+   * </code> if it is not a valid IPv4 or IPv6 address.
+   */
+  @Nullable
+  private static byte[] parseAddress(String address) {
+    if (address.indexOf(':') < 0) {
+      return parseIpv4(address);
+    }
+
+    // InetAddress only resolves host names which do not look like IPv6 literals
+    for (int i = 0; i < address.length(); i++) {
+      char c = address.charAt(i);
+      if (c != ':' && c != '.' && Character.digit(c, 16) < 0) {
+        return null;
+      }
+    }
+
+    try {
+      return InetAddress.getByName(address).getAddress();
+    } catch (UnknownHostException e) {
+      return null;
+    }
+  }
+
+  /** Parses a dotted-quad IPv4 address, or returns <code>null</code> if it is invalid. */
+  @Nullable
+  private static byte[] parseIpv4(String address) {
+    byte[] result = new byte[4];
+    int octet = 0;
+    int digits = 0;
+    int count = 0;
+    for (int i = 0; i <= address.length(); i++) {
+      char c = i < address.length() ? address.charAt(i) : '.';
+      if (c == '.') {
+        // every octet must have between one and three digits
+        if (digits == 0 || count == result.length) {
+          return null;
+        }
+        result[count++] = (byte) octet;
+        octet = 0;
+        digits = 0;
+      } else if (c >= '0' && c <= '9' && digits < 3) {
+        octet = octet * 10 + (c - '0');
+        digits++;
+        if (octet > 255) {
+          return null;
+        }
+      } else {
+        return null;
+      }
+    }
+    return count == result.length ? result : null;
+  }
+
+  /** Accumulates ranges into growable arrays, before they are trimmed into a {@link CidrSet}. */
+  private static class TrieBuilder {
+    private int[] children = new int[64];
+    private boolean[] terminal = new boolean[32];
+    private int size = 2;
+
+    /** Inserts the specified range, returning false if it cannot be parsed. */
+    private boolean insert(String range) {
+      int slash = range.indexOf('/');
+      String text = slash < 0 ? range : range.substring(0, slash);
+      byte[] address = parseAddress(text);
+      if (isNull(address)) {
+        return false;
+      }
+
+      int prefix = address.length * 8;
+      if (slash >= 0) {
+        try {
+          prefix = NumberParser.parseInt(range, slash + 1, range.length());
+        } catch (NumberFormatException e) {
+          return false;
+        }
+
+        // IPv4-mapped addresses are parsed into IPv4 addresses
+        if (address.length == 4 && text.indexOf(':') >= 0) {
+          prefix -= IPV4_MAPPED_PREFIX;
+        }
+      }
+      if (prefix < 0 || prefix > address.length * 8) {
+        return false;
+      }
+
+      int node = address.length == 4 ? IPV4_ROOT : IPV6_ROOT;
+      for (int i = 0; i < prefix; i++) {
+        if (terminal[node]) {
+          // the range is already covered by a shorter prefix
+          return true;
+        }
+
+        int slot = 2 * node + bit(address, i);
+        if (children[slot] == 0) {
+          // newNode() may grow the array, and must be called before indexing into it
+          int child = newNode();
+          children[slot] = child;
+        }
+        node = children[slot];
+      }
+      terminal[node] = true;
+      return true;
+    }
+
+    private int newNode() {
+      if (size == terminal.length) {
+        terminal = Arrays.copyOf(terminal, size * 2);
+        children = Arrays.copyOf(children, size * 4);
+      }
+      return size++;
+    }
+
+    private CidrSet build(List<String> ranges) {
+      return new CidrSet(
+          List.copyOf(ranges), Arrays.copyOf(children, size * 2), Arrays.copyOf(terminal, size));
+    }
+  }
+}
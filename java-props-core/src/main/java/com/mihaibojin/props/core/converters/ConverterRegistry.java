@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static java.util.Objects.isNull;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link Converter}s, keyed by the type they decode.
+ *
+ * <p>Looking up a converter once, when a prop is bound, and reusing it for every subsequent
+ * decode, keeps each prop's <code>decode</code> call site monomorphic and avoids allocating
+ * converters on every read.
+ *
+ * <p>Generic types are matched by their name (e.g., <code>java.util.List&lt;java.lang.Long&gt;
+ * </code>), so they can be looked up with any {@link Type} implementation, including those
+ * returned by reflection (e.g., {@link java.lang.reflect.Field#getGenericType()}) or by {@link
+ * #listOf(Class)} and {@link #mapOf(Class, Type)}.
+ *
+ * <p>Converters for {@link Map}s are composed on first lookup, from the converters registered for
+ * their key and value types (see {@link Cast#asMapOf(Converter, Converter)}), unless one was
+ * registered for the exact map type.
+ */
+public class ConverterRegistry {
+
+  private final Map<String, Converter<?>> converters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a registry which holds the converters provided by {@link Cast}.
+   *
+   * <p>Since they decode the same types, {@link Cast#asLazyListOfLong()} and {@link
+   * Cast#asLazyListOfString()} are only registered by {@link #withLazyLists()}, and {@link
+   * Cast#asNumericDuration()} is not registered, in favor of {@link Cast#asDuration()}.
+   */
+  public static ConverterRegistry defaults() {
+    return new ConverterRegistry()
+        .register(Boolean.class, Cast.asBoolean())
+        .register(ChronoUnit.class, Cast.asChronoUnit())
+        .register(CidrSet.class, Cast.asCidrSet())
+        .register(Date.class, Cast.asDate())
+        .register(Double.class, Cast.asDouble())
+        .register(double[].class, Cast.asDoubleArray())
+        .register(Duration.class, Cast.asDuration())
+        .register(Float.class, Cast.asFloat())
+        .register(Instant.class, Cast.asInstant())
+        .register(int[].class, Cast.asIntArray())
+        .register(Integer.class, Cast.asInteger())
+        .register(listOf(Double.class), Cast.asListOfDouble())
+        .register(listOf(Float.class), Cast.asListOfFloat())
+        .register(listOf(Integer.class), Cast.asListOfInteger())
+        .register(listOf(Long.class), Cast.asListOfLong())
+        .register(listOf(String.class), Cast.asListOfString())
+        .register(Long.class, Cast.asLong())
+        .register(long[].class, Cast.asLongArray())
+        .register(LongSet.class, Cast.asLongSet())
+        .register(Path.class, Cast.asPath())
+        .register(PatternSet.class, Cast.asPatternSet())
+        .register(String.class, Cast.asString());
+  }
+
+  /**
+   * Registers {@link Cast#asLazyListOfLong()} and {@link Cast#asLazyListOfString()}, replacing the
+   * converters of {@link List}s of {@link Long}s and {@link String}s, which are otherwise decoded
+   * eagerly.
+   */
+  public ConverterRegistry withLazyLists() {
+    return register(listOf(Long.class), Cast.asLazyListOfLong())
+        .register(listOf(String.class), Cast.asLazyListOfString());
+  }
+
+  /** Registers a converter for the specified class, replacing any previous registration. */
+  public <T> ConverterRegistry register(Class<T> type, Converter<T> converter) {
+    return register((Type) type, converter);
+  }
+
+  /**
+   * Registers a converter for the specified (possibly generic) type, replacing any previous
+   * registration.
+   *
+   * <p>It is the caller's responsibility to ensure that the converter decodes values of the
+   * specified type.
+   */
+  public ConverterRegistry register(Type type, Converter<?> converter) {
+    converters.put(type.getTypeName(), converter);
+    return this;
+  }
+
+  /** Returns the converter registered for the specified class, or <code>null</code> if none is. */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> Converter<T> find(Class<T> type) {
+    return (Converter<T>) find((Type) type);
+  }
+
+  /**
+   * Returns the converter registered for the specified type, or <code>null</code> if none is.
+   *
+   * <p>If no converter was registered for a {@link Map} type, but converters are registered for
+   * its key and value types, a map converter is composed and registered.
+   */
+  @Nullable
+  public Converter<?> find(Type type) {
+    Converter<?> converter = converters.get(type.getTypeName());
+    if (!isNull(converter) || !(type instanceof ParameterizedType)) {
+      return converter;
+    }
+
+    ParameterizedType parameterized = (ParameterizedType) type;
+    if (!Map.class.equals(parameterized.getRawType())) {
+      return null;
+    }
+
+    Type[] arguments = parameterized.getActualTypeArguments();
+    Converter<?> keyConverter = find(arguments[0]);
+    Converter<?> valueConverter = find(arguments[1]);
+    if (isNull(keyConverter) || isNull(valueConverter)) {
+      return null;
+    }
+
+    // concurrent lookups keep the first converter, so that all callers share it
+    Converter<?> composed = Cast.asMapOf(keyConverter, valueConverter);
+    Converter<?> previous = converters.putIfAbsent(type.getTypeName(), composed);
+    return isNull(previous) ? composed : previous;
+  }
+
+  /**
+   * Returns the converter registered for the specified class.
+   *
+   * @throws IllegalArgumentException if no converter was registered for the specified class
+   */
+  public <T> Converter<T> get(Class<T> type) {
+    Converter<T> converter = find(type);
+    if (isNull(converter)) {
+      throw new IllegalArgumentException("No converter registered for " + type.getTypeName());
+    }
+    return converter;
+  }
+
+  /** Returns the {@link Type} of a {@link List} of the specified element class. */
+  public static Type listOf(Class<?> elementType) {
+    return new GenericType(List.class, elementType);
+  }
+
+  /**
+   * Returns the {@link Type} of a {@link Map} of the specified key class and value type; the value
+   * type can itself be generic (e.g., <code>mapOf(String.class, listOf(Long.class))</code>).
+   */
+  public static Type mapOf(Class<?> keyType, Type valueType) {
+    return new GenericType(Map.class, keyType, valueType);
+  }
+
+  /** Parameterized top-level type, equal to those returned by reflection. */
+  private static class GenericType implements ParameterizedType {
+    private final Class<?> rawType;
+    private final Type[] arguments;
+
+    private GenericType(Class<?> rawType, Type... arguments) {
+      this.rawType = rawType;
+      this.arguments = arguments;
+    }
+
+    @Override
+    public Type[] getActualTypeArguments() {
+      return arguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+      return rawType;
+    }
+
+    @Override
+    @Nullable
+    public Type getOwnerType() {
+      return null;
+    }
+
+    @Override
+    public String getTypeName() {
+      StringJoiner names = new StringJoiner(", ", rawType.getName() + "<", ">");
+      for (Type argument : arguments) {
+        names.add(argument.getTypeName());
+      }
+      return names.toString();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (!(o instanceof ParameterizedType)) {
+        return false;
+      }
+      ParameterizedType that = (ParameterizedType) o;
+      return rawType.equals(that.getRawType())
+          && isNull(that.getOwnerType())
+          && Arrays.equals(arguments, that.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+      // matches the JDK's implementation, for a type without an owner
+      return Arrays.hashCode(arguments) ^ rawType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return getTypeName();
+    }
+  }
+}
@@ -16,41 +16,93 @@
 
 package com.mihaibojin.props.core.converters;
 
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
 import static java.util.logging.Level.SEVERE;
 
 import com.mihaibojin.props.core.annotations.Nullable;
-import java.text.NumberFormat;
-import java.text.ParseException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.function.Function;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 class ConverterUtils {
 
   private static final Logger log = Logger.getLogger(ConverterUtils.class.getName());
 
   /**
-   * Attempts to parse a {@link String} to a {@link Number} and returns <code>null</code> if it
+   * Attempts to parse a {@link String} to an {@link Integer} and returns <code>null</code> if it
    * cannot.
    *
    * <p>This methods logs a {@link java.util.logging.Level#SEVERE} event instead of throwing {@link
-   * ParseException}s.
+   * NumberFormatException}s.
    */
   @Nullable
-  static Number safeParseNumber(String value) {
+  static Integer safeParseInt(String value) {
     try {
-      return NumberFormat.getInstance().parse(value);
-    } catch (ParseException e) {
-      log.log(SEVERE, e, () -> "Could not parse " + value + " to a number");
+      return NumberParser.parseInt(value);
+    } catch (NumberFormatException e) {
+      log.log(SEVERE, e, () -> "Could not parse " + value + " to an integer");
+      return null;
+    }
+  }
+
+  /**
+   * Attempts to parse a {@link String} to a {@link Long} and returns <code>null</code> if it
+   * cannot.
+   *
+   * <p>This methods logs a {@link java.util.logging.Level#SEVERE} event instead of throwing {@link
+   * NumberFormatException}s.
+   */
+  @Nullable
+  static Long safeParseLong(String value) {
+    try {
+      return NumberParser.parseLong(value);
+    } catch (NumberFormatException e) {
+      log.log(SEVERE, e, () -> "Could not parse " + value + " to a long");
+      return null;
+    }
+  }
+
+  /**
+   * Attempts to parse a {@link String} to a {@link Double} and returns <code>null</code> if it
+   * cannot.
+   *
+   * <p>This methods logs a {@link java.util.logging.Level#SEVERE} event instead of throwing {@link
+   * NumberFormatException}s.
+   */
+  @Nullable
+  static Double safeParseDouble(String value) {
+    try {
+      return NumberParser.parseDouble(value);
+    } catch (NumberFormatException e) {
+      log.log(SEVERE, e, () -> "Could not parse " + value + " to a double");
+      return null;
+    }
+  }
+
+  /**
+   * Attempts to parse a {@link String} to a {@link Float} and returns <code>null</code> if it
+   * cannot.
+   *
+   * <p>This methods logs a {@link java.util.logging.Level#SEVERE} event instead of throwing {@link
+   * NumberFormatException}s.
+   */
+  @Nullable
+  static Float safeParseFloat(String value) {
+    try {
+      return NumberParser.parseFloat(value);
+    } catch (NumberFormatException e) {
+      log.log(SEVERE, e, () -> "Could not parse " + value + " to a float");
       return null;
     }
   }
@@ -106,21 +158,251 @@ class ConverterUtils {
     }
   }
 
-  /** Splits a {@link String} by the given <code>separator</code>. */
+  /** Splits a {@link String} by the given <code>separator</code> into an unmodifiable list. */
   static List<String> splitString(String input, String separator) {
     return List.of(input.split(Pattern.quote(separator)));
   }
 
   /**
-   * Splits a {@link String} by the given <code>separator</code>, casts every item using the
-   * specified <code>mapper</code> func and returns a {@link List} of numbers.
+   * Splits a {@link String} by the given <code>separator</code>, parses every item using the
+   * specified <code>parser</code> and returns an unmodifiable {@link List} of numbers.
+   *
+   * <p>Items are parsed in place, without allocating intermediary strings; items which cannot be
+   * parsed are logged and skipped.
    */
   static <T extends Number> List<T> splitStringAsNumbers(
-      String input, String separator, Function<Number, T> mapper) {
-    return Stream.of(input.split(Pattern.quote(separator)))
-        .map(ConverterUtils::safeParseNumber)
-        .filter(Objects::nonNull)
-        .map(mapper)
-        .collect(Collectors.toList());
+      String input, String separator, RangeParser<T> parser) {
+    List<T> result = new ArrayList<>();
+    parseItems(
+        input, separator, "a number", (in, start, end) -> result.add(parser.parse(in, start, end)));
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Splits a {@link String} by the given <code>separator</code> and parses every item as a <code>
+   * long</code>, in a single pass and without boxing; items which cannot be parsed are logged and
+   * skipped.
+   */
+  static long[] splitStringAsLongs(String input, String separator) {
+    LongSink sink = new LongSink();
+    parseItems(input, separator, "a long", sink);
+    return sink.toArray();
+  }
+
+  /**
+   * Splits a {@link String} by the given <code>separator</code> and parses every item as an <code>
+   * int</code>, in a single pass and without boxing; items which cannot be parsed are logged and
+   * skipped.
+   */
+  static int[] splitStringAsInts(String input, String separator) {
+    IntSink sink = new IntSink();
+    parseItems(input, separator, "an integer", sink);
+    return sink.toArray();
+  }
+
+  /**
+   * Splits a {@link String} by the given <code>separator</code> and parses every item as a <code>
+   * double</code>, in a single pass and without boxing; items which cannot be parsed are logged and
+   * skipped.
+   */
+  static double[] splitStringAsDoubles(String input, String separator) {
+    DoubleSink sink = new DoubleSink();
+    parseItems(input, separator, "a double", sink);
+    return sink.toArray();
+  }
+
+  /**
+   * Passes every item of the input, split by the given <code>separator</code>, to the <code>sink
+   * </code>; items which cannot be parsed are logged and skipped.
+   *
+   * <p>Like {@link String#split(String)}, trailing empty items are dropped (e.g., <code>"1,2,"
+   * </code> results in two items).
+   */
+  private static void parseItems(String input, String separator, String type, ItemSink sink) {
+    int limit = withoutTrailingSeparators(input, separator);
+    if (limit == 0 && !input.isEmpty()) {
+      return;
+    }
+
+    int start = 0;
+    while (true) {
+      int end = Math.min(nextSeparator(input, separator, start), limit);
+      try {
+        sink.parse(input, start, end);
+      } catch (NumberFormatException e) {
+        log.log(SEVERE, e, () -> "Could not parse an item of " + input + " to " + type);
+      }
+
+      start = end + separator.length();
+      if (end == limit || start > limit) {
+        return;
+      }
+    }
+  }
+
+  /** Returns the length of the input, excluding any separators it ends with. */
+  private static int withoutTrailingSeparators(String input, String separator) {
+    int limit = input.length();
+    if (separator.isEmpty()) {
+      return limit;
+    }
+
+    while (limit >= separator.length()
+        && input.startsWith(separator, limit - separator.length())) {
+      limit -= separator.length();
+    }
+    return limit;
+  }
+
+  /** Parses the items of a separated {@link String} and collects the results. */
+  @FunctionalInterface
+  private interface ItemSink {
+    /**
+     * Parses the item found in the <code>input</code>, between <code>start</code> (inclusive) and
+     * <code>end</code> (exclusive).
+     *
+     * @throws NumberFormatException if the item cannot be parsed
+     */
+    void parse(String input, int start, int end);
+  }
+
+  /** Collects <code>long</code>s into a growable array. */
+  private static class LongSink implements ItemSink {
+    private long[] values = new long[16];
+    private int count;
+
+    @Override
+    public void parse(String input, int start, int end) {
+      long value = NumberParser.parseLong(input, start, end);
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+      }
+      values[count++] = value;
+    }
+
+    private long[] toArray() {
+      return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+  }
+
+  /** Collects <code>int</code>s into a growable array. */
+  private static class IntSink implements ItemSink {
+    private int[] values = new int[16];
+    private int count;
+
+    @Override
+    public void parse(String input, int start, int end) {
+      int value = NumberParser.parseInt(input, start, end);
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+      }
+      values[count++] = value;
+    }
+
+    private int[] toArray() {
+      return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+  }
+
+  /** Collects <code>double</code>s into a growable array. */
+  private static class DoubleSink implements ItemSink {
+    private double[] values = new double[16];
+    private int count;
+
+    @Override
+    public void parse(String input, int start, int end) {
+      double value = NumberParser.parseDouble(input, start, end);
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+      }
+      values[count++] = value;
+    }
+
+    private double[] toArray() {
+      return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+  }
+
+  /**
+   * Splits a {@link String} into entries separated by <code>entrySeparator</code>, each holding a
+   * key and a value separated by the first occurrence of <code>pairSeparator</code>, and decodes
+   * them into an immutable {@link Map}.
+   *
+   * <p>Entries which cannot be split or decoded are logged and skipped; if a key is defined more
+   * than once, its last value is kept.
+   */
+  static <K, V> Map<K, V> splitStringAsMap(
+      String input,
+      String entrySeparator,
+      String pairSeparator,
+      Converter<K> keyConverter,
+      Converter<V> valueConverter) {
+    if (input.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<K, V> result = new HashMap<>();
+    int start = 0;
+    int pair = -1;
+    while (true) {
+      int end = nextSeparator(input, entrySeparator, start);
+
+      // a pair separator found past a previous entry is reused, keeping the scan linear
+      if (pair < start && pair != input.length()) {
+        pair = pairSeparator.isEmpty() ? input.length() : input.indexOf(pairSeparator, start);
+        pair = pair < 0 ? input.length() : pair;
+      }
+
+      if (pair >= end) {
+        // empty entries, e.g. caused by a trailing separator, are ignored
+        if (end > start) {
+          String entry = input.substring(start, end);
+          log.severe(() -> format("Could not find '%s' in entry '%s'", pairSeparator, entry));
+        }
+      } else {
+        K key = keyConverter.decode(input.substring(start, pair));
+        V value = valueConverter.decode(input.substring(pair + pairSeparator.length(), end));
+        if (isNull(key) || isNull(value)) {
+          String entry = input.substring(start, end);
+          log.severe(() -> format("Could not decode entry '%s'", entry));
+        } else {
+          result.put(key, value);
+        }
+      }
+
+      if (end == input.length()) {
+        return Map.copyOf(result);
+      }
+      start = end + entrySeparator.length();
+    }
+  }
+
+  /**
+   * Returns the index of the next <code>separator</code>, starting at <code>start</code>, or the
+   * input's length if there are no more separators.
+   *
+   * <p>An empty separator splits the input into single characters, like {@link
+   * String#split(String)} does.
+   */
+  static int nextSeparator(String input, String separator, int start) {
+    if (separator.isEmpty()) {
+      return Math.min(start + 1, input.length());
+    }
+
+    int end = input.indexOf(separator, start);
+    return end < 0 ? input.length() : end;
+  }
+
+  /** Parses the characters of a {@link String} between two indices. */
+  @FunctionalInterface
+  interface RangeParser<T> {
+
+    /**
+     * Parses the characters between <code>start</code> (inclusive) and <code>end</code>
+     * (exclusive).
+     *
+     * @throws NumberFormatException if the characters do not represent a valid value
+     */
+    T parse(String input, int start, int end);
   }
 }
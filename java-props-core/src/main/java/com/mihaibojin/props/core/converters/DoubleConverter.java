@@ -16,22 +16,16 @@
 
 package com.mihaibojin.props.core.converters;
 
-import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseNumber;
-import static java.util.Objects.isNull;
+import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseDouble;
 
 import com.mihaibojin.props.core.annotations.Nullable;
 
 /** Converter that casts the inputted {@link String} to an {@link Double} value. */
-public interface DoubleConverter extends Converter<Double> {
+public interface DoubleConverter extends ImmutableConverter<Double> {
 
   @Override
   @Nullable
   default Double decode(String value) {
-    Number number = safeParseNumber(value);
-    if (isNull(number)) {
-      return null;
-    }
-
-    return number.doubleValue();
+    return safeParseDouble(value);
   }
 }
@@ -22,7 +22,7 @@ import com.mihaibojin.props.core.annotations.Nullable;
 import java.time.Duration;
 
 /** Converter that casts the inputted {@link String} to an {@link Duration} value. */
-public interface DurationConverter extends Converter<Duration> {
+public interface DurationConverter extends ImmutableConverter<Duration> {
 
   @Override
   @Nullable
@@ -16,22 +16,16 @@
 
 package com.mihaibojin.props.core.converters;
 
-import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseNumber;
-import static java.util.Objects.isNull;
+import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseFloat;
 
 import com.mihaibojin.props.core.annotations.Nullable;
 
 /** Converter that casts the inputted {@link String} to an {@link Float} value. */
-public interface FloatConverter extends Converter<Float> {
+public interface FloatConverter extends ImmutableConverter<Float> {
 
   @Override
   @Nullable
   default Float decode(String value) {
-    Number number = safeParseNumber(value);
-    if (isNull(number)) {
-      return null;
-    }
-
-    return number.floatValue();
+    return safeParseFloat(value);
   }
 }
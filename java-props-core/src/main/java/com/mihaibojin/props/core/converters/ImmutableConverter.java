@@ -0,0 +1,29 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+/**
+ * Marks {@link Converter}s whose decoded values are immutable, and which always decode a string to
+ * an equal value.
+ *
+ * <p>Values decoded by such converters can be safely shared between callers; as such, {@link
+ * com.mihaibojin.props.core.Props} memoizes them for on-the-spot reads (see {@link
+ * MemoizingConverter}). Values decoded by any other converters are never shared, unless the
+ * converter is explicitly decorated with a {@link MemoizingConverter}.
+ */
+@FunctionalInterface
+public interface ImmutableConverter<T> extends Converter<T> {}
@@ -22,7 +22,7 @@ import com.mihaibojin.props.core.annotations.Nullable;
 import java.time.Instant;
 
 /** Converter that casts the inputted {@link String} to an {@link Instant} value. */
-public interface InstantConverter extends Converter<Instant> {
+public interface InstantConverter extends ImmutableConverter<Instant> {
 
   @Override
   @Nullable
@@ -16,22 +16,16 @@
 
 package com.mihaibojin.props.core.converters;
 
-import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseNumber;
-import static java.util.Objects.isNull;
+import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseInt;
 
 import com.mihaibojin.props.core.annotations.Nullable;
 
 /** Converter that casts the inputted {@link String} to an {@link Integer} value. */
-public interface IntegerConverter extends Converter<Integer> {
+public interface IntegerConverter extends ImmutableConverter<Integer> {
 
   @Override
   @Nullable
   default Integer decode(String value) {
-    Number number = safeParseNumber(value);
-    if (isNull(number)) {
-      return null;
-    }
-
-    return number.intValue();
+    return safeParseInt(value);
   }
 }
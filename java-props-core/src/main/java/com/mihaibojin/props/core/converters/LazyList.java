@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static com.mihaibojin.props.core.converters.ConverterUtils.nextSeparator;
+import static java.util.Objects.isNull;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import com.mihaibojin.props.core.converters.ConverterUtils.RangeParser;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable {@link java.util.List} view over a separated {@link String}, which parses each element
+ * the first time it is accessed and caches the result.
+ *
+ * <p>Decoding only records where each element starts; callers which only check the list's size or
+ * read a few elements do not pay for parsing (or allocating) the others. Like {@link
+ * String#split(String)}, trailing empty elements are discarded; an empty input results in an empty
+ * list.
+ *
+ * <p>Elements which cannot be parsed cause an exception when they are accessed. Concurrent readers
+ * may parse the same element more than once, which is safe since elements are immutable.
+ *
+ * <p>Lists which split the same input by the same separator, using the same parser, are equal
+ * without parsing any of their elements, and lists of different sizes are never compared
+ * element-wise. The hash code is computed once.
+ */
+class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+  /** Parses elements as {@link Long}s. */
+  static final RangeParser<Long> LONGS = NumberParser::parseLong;
+
+  /** Returns elements as {@link String}s. */
+  static final RangeParser<String> STRINGS = String::substring;
+
+  private final String input;
+  private final String separator;
+  private final int[] starts;
+  private final int size;
+  private final RangeParser<T> parser;
+  private final Object[] elements;
+  // cached on first use, like String#hashCode(); concurrent readers compute the same value
+  private int hash;
+  private boolean hashIsZero;
+
+  private LazyList(String input, String separator, int[] starts, int size, RangeParser<T> parser) {
+    this.input = input;
+    this.separator = separator;
+    this.starts = starts;
+    this.size = size;
+    this.parser = parser;
+    this.elements = new Object[size];
+  }
+
+  /**
+   * Splits the input by the given <code>separator</code>, deferring the parsing of each element to
+   * the specified <code>parser</code>.
+   */
+  static <T> LazyList<T> of(String input, String separator, RangeParser<T> parser) {
+    int[] starts = new int[16];
+    int count = 0;
+    int start = 0;
+    int lastNonEmpty = 0;
+    while (true) {
+      int end = nextSeparator(input, separator, start);
+      if (count == starts.length) {
+        starts = Arrays.copyOf(starts, count * 2);
+      }
+      starts[count++] = start;
+      if (end > start) {
+        lastNonEmpty = count;
+      }
+
+      if (end == input.length()) {
+        break;
+      }
+      start = end + separator.length();
+    }
+
+    // discard trailing empty elements, which for an empty input is its only element
+    count = lastNonEmpty;
+
+    return new LazyList<>(input, separator, starts, count, parser);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    Objects.checkIndex(index, size);
+    Object element = elements[index];
+    if (isNull(element)) {
+      element = parser.parse(input, starts[index], end(index));
+      elements[index] = element;
+    }
+    return (T) element;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o == this) {
+      return true;
+    } else if (!(o instanceof List) || ((List<?>) o).size() != size) {
+      return false;
+    }
+
+    if (o instanceof LazyList) {
+      LazyList<?> that = (LazyList<?>) o;
+      if (parser == that.parser && separator.equals(that.separator) && input.equals(that.input)) {
+        return true;
+      }
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    // consistent with equals(), since equal inputs always parse to equal elements
+    int h = hash;
+    if (h == 0 && !hashIsZero) {
+      h = super.hashCode();
+      if (h == 0) {
+        hashIsZero = true;
+      } else {
+        hash = h;
+      }
+    }
+    return h;
+  }
+
+  /** Returns the index at which the specified element ends (exclusive). */
+  private int end(int index) {
+    if (index + 1 < size) {
+      return starts[index + 1] - separator.length();
+    }
+
+    // the last element may be followed by discarded empty elements
+    return nextSeparator(input, separator, starts[index]);
+  }
+}
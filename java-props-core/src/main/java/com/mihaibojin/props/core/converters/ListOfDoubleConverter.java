@@ -21,13 +21,13 @@ import static com.mihaibojin.props.core.converters.ConverterUtils.splitStringAsN
 import java.util.List;
 
 /**
- * Converter that splits the inputted {@link String} into a {@link List} of {@link Double}s. The
- * separator can be configured by overriding {@link ListConverter#separator()}.
+ * Converter that splits the inputted {@link String} into an unmodifiable {@link List} of {@link
+ * Double}s. The separator can be configured by overriding {@link ListConverter#separator()}.
  */
-public interface ListOfDoubleConverter extends Converter<List<Double>>, ListConverter {
+public interface ListOfDoubleConverter extends ImmutableConverter<List<Double>>, ListConverter {
 
   @Override
   default List<Double> decode(String value) {
-    return splitStringAsNumbers(value, separator(), Number::doubleValue);
+    return splitStringAsNumbers(value, separator(), NumberParser::parseDouble);
   }
 }
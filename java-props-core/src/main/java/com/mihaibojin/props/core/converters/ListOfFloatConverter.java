@@ -21,13 +21,13 @@ import static com.mihaibojin.props.core.converters.ConverterUtils.splitStringAsN
 import java.util.List;
 
 /**
- * Converter that splits the inputted {@link String} into a {@link List} of {@link Float}s. The
- * separator can be configured by overriding {@link ListConverter#separator()}.
+ * Converter that splits the inputted {@link String} into an unmodifiable {@link List} of {@link
+ * Float}s. The separator can be configured by overriding {@link ListConverter#separator()}.
  */
-public interface ListOfFloatConverter extends Converter<List<Float>>, ListConverter {
+public interface ListOfFloatConverter extends ImmutableConverter<List<Float>>, ListConverter {
 
   @Override
   default List<Float> decode(String value) {
-    return splitStringAsNumbers(value, separator(), Number::floatValue);
+    return splitStringAsNumbers(value, separator(), NumberParser::parseFloat);
   }
 }
@@ -21,13 +21,13 @@ import static com.mihaibojin.props.core.converters.ConverterUtils.splitStringAsN
 import java.util.List;
 
 /**
- * Converter that splits the inputted {@link String} into a {@link List} of {@link Integer}s. The
- * separator can be configured by overriding {@link ListConverter#separator()}.
+ * Converter that splits the inputted {@link String} into an unmodifiable {@link List} of {@link
+ * Integer}s. The separator can be configured by overriding {@link ListConverter#separator()}.
  */
-public interface ListOfIntegerConverter extends Converter<List<Integer>>, ListConverter {
+public interface ListOfIntegerConverter extends ImmutableConverter<List<Integer>>, ListConverter {
 
   @Override
   default List<Integer> decode(String value) {
-    return splitStringAsNumbers(value, separator(), Number::intValue);
+    return splitStringAsNumbers(value, separator(), NumberParser::parseInt);
   }
 }
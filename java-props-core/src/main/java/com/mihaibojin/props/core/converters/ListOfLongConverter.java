@@ -21,13 +21,13 @@ import static com.mihaibojin.props.core.converters.ConverterUtils.splitStringAsN
 import java.util.List;
 
 /**
- * Converter that splits the inputted {@link String} into a {@link List} of {@link Long}s. The
- * separator can be configured by overriding {@link ListConverter#separator()}.
+ * Converter that splits the inputted {@link String} into an unmodifiable {@link List} of {@link
+ * Long}s. The separator can be configured by overriding {@link ListConverter#separator()}.
  */
-public interface ListOfLongConverter extends Converter<List<Long>>, ListConverter {
+public interface ListOfLongConverter extends ImmutableConverter<List<Long>>, ListConverter {
 
   @Override
   default List<Long> decode(String value) {
-    return splitStringAsNumbers(value, separator(), Number::longValue);
+    return splitStringAsNumbers(value, separator(), NumberParser::parseLong);
   }
 }
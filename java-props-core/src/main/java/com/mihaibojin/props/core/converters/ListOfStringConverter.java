@@ -21,10 +21,10 @@ import static com.mihaibojin.props.core.converters.ConverterUtils.splitString;
 import java.util.List;
 
 /**
- * Converter that splits the inputted {@link String} into a {@link List} of {@link String}s. The
- * separator can be configured by overriding {@link ListConverter#separator()}.
+ * Converter that splits the inputted {@link String} into an unmodifiable {@link List} of {@link
+ * String}s. The separator can be configured by overriding {@link ListConverter#separator()}.
  */
-public interface ListOfStringConverter extends Converter<List<String>>, ListConverter {
+public interface ListOfStringConverter extends ImmutableConverter<List<String>>, ListConverter {
 
   @Override
   default List<String> decode(String value) {
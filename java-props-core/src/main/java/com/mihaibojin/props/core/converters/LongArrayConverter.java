@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static com.mihaibojin.props.core.converters.ConverterUtils.splitStringAsLongs;
+
+/**
+ * Converter that splits the inputted {@link String} into a <code>long[]</code>, without
+ * boxing its elements. The separator can be configured by overriding {@link
+ * ListConverter#separator()}.
+ *
+ * <p>Decoded arrays may be shared by all readers of a prop and must not be modified.
+ */
+public interface LongArrayConverter extends Converter<long[]>, ListConverter {
+
+  @Override
+  default long[] decode(String value) {
+    return splitStringAsLongs(value, separator());
+  }
+
+  @Override
+  default String encode(long[] value) {
+    StringBuilder result = new StringBuilder();
+    for (int i = 0; i < value.length; i++) {
+      if (i > 0) {
+        result.append(separator());
+      }
+      result.append(value[i]);
+    }
+    return result.toString();
+  }
+}
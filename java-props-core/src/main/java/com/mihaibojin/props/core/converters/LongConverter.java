@@ -16,22 +16,16 @@
 
 package com.mihaibojin.props.core.converters;
 
-import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseNumber;
-import static java.util.Objects.isNull;
+import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseLong;
 
 import com.mihaibojin.props.core.annotations.Nullable;
 
 /** Converter that casts the inputted {@link String} to an {@link Long} value. */
-public interface LongConverter extends Converter<Long> {
+public interface LongConverter extends ImmutableConverter<Long> {
 
   @Override
   @Nullable
   default Long decode(String value) {
-    Number number = safeParseNumber(value);
-    if (isNull(number)) {
-      return null;
-    }
-
-    return number.longValue();
+    return safeParseLong(value);
   }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.util.Arrays;
+
+/**
+ * Immutable set of <code>long</code>s, stored in a compact structure chosen by the density of its
+ * values, which answers {@link #contains(long)} without boxing.
+ *
+ * <ul>
+ *   <li>dense values (spanning a range of at most 64 values per element) are stored in a bitmap,
+ *       using at most one bit per value in the range
+ *   <li>sparse sets of up to {@value #MAX_SORTED_SIZE} values are stored in a sorted array, and
+ *       searched with a binary search
+ *   <li>larger sparse sets are stored in an open-addressing hash set
+ * </ul>
+ */
+public abstract class LongSet {
+
+  static final int MAX_SORTED_SIZE = 4096;
+  private static final int BITS_PER_WORD = 64;
+
+  /** Creates a set holding the specified values; duplicates are ignored. */
+  public static LongSet of(long... values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+
+    // remove duplicates
+    int size = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[size - 1]) {
+        sorted[size++] = sorted[i];
+      }
+    }
+    if (size < sorted.length) {
+      sorted = Arrays.copyOf(sorted, size);
+    }
+
+    if (size == 0) {
+      return new SortedLongSet(sorted);
+    }
+
+    // a bitmap is chosen if it does not use more memory than a sorted array; the range overflows
+    // if the values span more than Long.MAX_VALUE, in which case the set is sparse anyway
+    long range = sorted[size - 1] - sorted[0];
+    if (range >= 0 && range < (long) BITS_PER_WORD * size) {
+      return new BitmapLongSet(sorted);
+    }
+    if (size <= MAX_SORTED_SIZE) {
+      return new SortedLongSet(sorted);
+    }
+    return new HashLongSet(sorted);
+  }
+
+  /** Returns true if the set contains the specified value. */
+  public abstract boolean contains(long value);
+
+  /** Returns the number of values in the set. */
+  public abstract int size();
+
+  /** Returns all the values in the set, in ascending order. */
+  public abstract long[] toArray();
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LongSet)) {
+      return false;
+    }
+
+    LongSet that = (LongSet) o;
+    return size() == that.size() && Arrays.equals(toArray(), that.toArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toArray());
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+
+  /** Stores the values in a sorted array. */
+  private static class SortedLongSet extends LongSet {
+    private final long[] values;
+
+    private SortedLongSet(long[] sorted) {
+      this.values = sorted;
+    }
+
+    @Override
+    public boolean contains(long value) {
+      return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public long[] toArray() {
+      return values.clone();
+    }
+  }
+
+  /** Stores the values as bits, offset by the smallest value. */
+  private static class BitmapLongSet extends LongSet {
+    private final long min;
+    private final long[] words;
+    private final int size;
+
+    private BitmapLongSet(long[] sorted) {
+      this.min = sorted[0];
+      this.size = sorted.length;
+      long range = sorted[sorted.length - 1] - min;
+      this.words = new long[(int) (range / BITS_PER_WORD) + 1];
+      for (long value : sorted) {
+        long offset = value - min;
+        words[(int) (offset >>> 6)] |= 1L << offset;
+      }
+    }
+
+    @Override
+    public boolean contains(long value) {
+      // values smaller than the minimum result in negative offsets
+      long offset = value - min;
+      if (offset < 0 || (offset >>> 6) >= words.length) {
+        return false;
+      }
+      return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public long[] toArray() {
+      long[] result = new long[size];
+      int count = 0;
+      for (int i = 0; i < words.length; i++) {
+        long word = words[i];
+        while (word != 0) {
+          result[count++] = min + (long) i * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+          word &= word - 1;
+        }
+      }
+      return result;
+    }
+  }
+
+  /** Stores the values in an open-addressing hash table, with linear probing. */
+  private static class HashLongSet extends LongSet {
+    // zero marks empty slots, and is therefore tracked separately
+    private final long[] table;
+    private final int mask;
+    private final boolean containsZero;
+    private final int size;
+
+    private HashLongSet(long[] sorted) {
+      this.size = sorted.length;
+
+      // keep the load factor at or below 50%
+      int capacity = Integer.highestOneBit(Math.max(2, sorted.length) - 1) << 2;
+      this.table = new long[capacity];
+      this.mask = capacity - 1;
+
+      boolean zero = false;
+      for (long value : sorted) {
+        if (value == 0) {
+          zero = true;
+          continue;
+        }
+
+        int index = index(value);
+        while (table[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        table[index] = value;
+      }
+      this.containsZero = zero;
+    }
+
+    @Override
+    public boolean contains(long value) {
+      if (value == 0) {
+        return containsZero;
+      }
+
+      int index = index(value);
+      while (true) {
+        long slot = table[index];
+        if (slot == value) {
+          return true;
+        }
+        if (slot == 0) {
+          return false;
+        }
+        index = (index + 1) & mask;
+      }
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public long[] toArray() {
+      long[] result = new long[size];
+      int count = 0;
+      if (containsZero) {
+        result[count++] = 0;
+      }
+      for (long value : table) {
+        if (value != 0) {
+          result[count++] = value;
+        }
+      }
+      Arrays.sort(result);
+      return result;
+    }
+
+    /** Spreads the value's bits (Murmur3's finalizer), since IDs are often sequential. */
+    private int index(long value) {
+      long h = value;
+      h ^= h >>> 33;
+      h *= 0xff51afd7ed558ccdL;
+      h ^= h >>> 33;
+      h *= 0xc4ceb9fe1a85ec53L;
+      h ^= h >>> 33;
+      return (int) h & mask;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static com.mihaibojin.props.core.converters.ConverterUtils.splitStringAsMap;
+
+import java.util.Map;
+
+/**
+ * Converter that splits the inputted {@link String} into an immutable {@link Map}, e.g.: <code>
+ * tenant1=100,tenant2=200</code>.
+ *
+ * <p>The entry and pair separators can be configured by overriding {@link #entrySeparator()} and
+ * {@link #pairSeparator()}. Since values are decoded by {@link #valueConverter()}, nested maps can
+ * be decoded by a value converter which is itself a <code>MapConverter</code>, using different
+ * separators (e.g., <code>tenant1=read:10;write:5,tenant2=read:20;write:1</code>).
+ */
+public interface MapConverter<K, V> extends Converter<Map<K, V>> {
+
+  /** Decodes the map's keys. */
+  Converter<K> keyConverter();
+
+  /** Decodes the map's values. */
+  Converter<V> valueConverter();
+
+  /**
+   * Separates the map's entries.
+   *
+   * <p>defaults to comma (",")
+   */
+  default String entrySeparator() {
+    return ",";
+  }
+
+  /**
+   * Separates each entry's key from its value; only its first occurrence in each entry is
+   * considered.
+   *
+   * <p>defaults to equals ("=")
+   */
+  default String pairSeparator() {
+    return "=";
+  }
+
+  @Override
+  default Map<K, V> decode(String value) {
+    return splitStringAsMap(
+        value, entrySeparator(), pairSeparator(), keyConverter(), valueConverter());
+  }
+
+  @Override
+  default String encode(Map<K, V> value) {
+    StringBuilder result = new StringBuilder();
+    for (Map.Entry<K, V> entry : value.entrySet()) {
+      if (result.length() > 0) {
+        result.append(entrySeparator());
+      }
+      result
+          .append(keyConverter().encode(entry.getKey()))
+          .append(pairSeparator())
+          .append(valueConverter().encode(entry.getValue()));
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static java.util.Objects.isNull;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorates a {@link Converter}, remembering the values it decoded for the most recently seen raw
+ * strings, so that decoding an unchanged string (e.g., a {@link java.time.Duration} or a long
+ * list) does not repeat the work.
+ *
+ * <p>The decorated converter must be deterministic, i.e., always decode a string to an equal
+ * value. Decoded values are shared by all callers and should not be modified. Strings which cannot
+ * be decoded are not cached.
+ *
+ * <p>Remembered values are read without locking; the order in which they were used, which decides
+ * the least recently used value to evict, is only updated if no other thread is updating it.
+ */
+public class MemoizingConverter<T> implements Converter<T> {
+
+  private final Converter<T> delegate;
+  private final int maximumSize;
+  private final ConcurrentHashMap<String, T> cache = new ConcurrentHashMap<>();
+
+  // the cache's usage order and cache writes are guarded by lock
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<String, Boolean> usage = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Constructs a converter which remembers up to <code>maximumSize</code> decoded values, evicting
+   * the least recently used ones.
+   *
+   * @throws IllegalArgumentException if the maximum size is not positive
+   */
+  public MemoizingConverter(Converter<T> delegate, int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("The maximum size must be positive");
+    }
+
+    this.delegate = delegate;
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  @Nullable
+  public T decode(String value) {
+    T cached = cache.get(value);
+    if (!isNull(cached)) {
+      recordUsage(value);
+      return cached;
+    }
+
+    // decode outside the lock, since decoding can be expensive
+    T decoded = delegate.decode(value);
+    if (!isNull(decoded)) {
+      store(value, decoded);
+    }
+    return decoded;
+  }
+
+  /** Records a cache hit; hits are dropped if the lock is busy, to avoid contending readers. */
+  private void recordUsage(String value) {
+    if (!lock.tryLock()) {
+      return;
+    }
+
+    try {
+      usage.get(value);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Remembers the decoded value, evicting the least recently used one if the cache is full. */
+  private void store(String value, T decoded) {
+    lock.lock();
+    try {
+      cache.put(value, decoded);
+      usage.put(value, Boolean.TRUE);
+      if (usage.size() > maximumSize) {
+        Iterator<String> eldest = usage.keySet().iterator();
+        cache.remove(eldest.next());
+        eldest.remove();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String encode(T value) {
+    return delegate.encode(value);
+  }
+
+  /** Returns the decorated converter. */
+  public Converter<T> delegate() {
+    return delegate;
+  }
+}
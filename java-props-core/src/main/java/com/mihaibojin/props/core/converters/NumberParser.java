@@ -0,0 +1,290 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static java.lang.String.format;
+
+/**
+ * Strict, locale-independent parser for decimal numbers, which reads the digits directly from the
+ * input characters.
+ *
+ * <p>Values may be surrounded by whitespace, but must otherwise consist only of an optional sign,
+ * digits and, for floating point numbers, an optional fraction and exponent (e.g., <code>-1.5e3
+ * </code>). Grouping separators, trailing characters and out-of-range values are rejected with a
+ * {@link NumberFormatException} which describes the problem.
+ *
+ * <p>Integral values and most floating point values are parsed without allocating; floating point
+ * values which cannot be computed exactly from their digits (e.g., more than 15 significant digits
+ * or large exponents) are delegated to the JDK's correctly rounding parser, after being validated.
+ */
+class NumberParser {
+
+  private static final int MAX_MANTISSA_DIGITS = 19;
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+  private static final long MAX_EXACT_FLOAT = 1L << 24;
+  private static final int MAX_EXPONENT = 100_000;
+
+  private static final double[] DOUBLE_POWERS = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final float[] FLOAT_POWERS = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  /** Parses the specified value as an <code>int</code>. */
+  static int parseInt(CharSequence input) {
+    return parseInt(input, 0, input.length());
+  }
+
+  /**
+   * Parses the characters between <code>start</code> (inclusive) and <code>end</code> (exclusive)
+   * as an <code>int</code>.
+   */
+  static int parseInt(CharSequence input, int start, int end) {
+    long value = parseLong(input, start, end, "an int");
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw outOfRange(input, start, end, "an int");
+    }
+    return (int) value;
+  }
+
+  /** Parses the specified value as a <code>long</code>. */
+  static long parseLong(CharSequence input) {
+    return parseLong(input, 0, input.length());
+  }
+
+  /**
+   * Parses the characters between <code>start</code> (inclusive) and <code>end</code> (exclusive)
+   * as a <code>long</code>.
+   */
+  static long parseLong(CharSequence input, int start, int end) {
+    return parseLong(input, start, end, "a long");
+  }
+
+  private static long parseLong(CharSequence input, int start, int end, String type) {
+    int from = skipLeadingWhitespace(input, start, end);
+    int to = skipTrailingWhitespace(input, from, end);
+    if (from == to) {
+      throw new NumberFormatException(format("Cannot parse an empty value as %s", type));
+    }
+
+    int i = from;
+    boolean negative = input.charAt(i) == '-';
+    if (negative || input.charAt(i) == '+') {
+      i++;
+    }
+    if (i == to) {
+      throw noDigits(input, start, end, type);
+    }
+
+    // accumulate negatively, since Long.MIN_VALUE has no positive counterpart
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long multiplicationLimit = limit / 10;
+    long result = 0;
+    for (; i < to; i++) {
+      int digit = input.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw unexpectedCharacter(input, start, end, i, type);
+      }
+      if (result < multiplicationLimit) {
+        throw outOfRange(input, start, end, type);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        throw outOfRange(input, start, end, type);
+      }
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  /** Parses the specified value as a <code>double</code>. */
+  static double parseDouble(CharSequence input) {
+    return parseDouble(input, 0, input.length());
+  }
+
+  /**
+   * Parses the characters between <code>start</code> (inclusive) and <code>end</code> (exclusive)
+   * as a <code>double</code>.
+   */
+  static double parseDouble(CharSequence input, int start, int end) {
+    return parseFloatingPoint(input, start, end, false);
+  }
+
+  /** Parses the specified value as a <code>float</code>. */
+  static float parseFloat(CharSequence input) {
+    return parseFloat(input, 0, input.length());
+  }
+
+  /**
+   * Parses the characters between <code>start</code> (inclusive) and <code>end</code> (exclusive)
+   * as a <code>float</code>.
+   */
+  static float parseFloat(CharSequence input, int start, int end) {
+    // the result was rounded to a float, and can therefore be represented exactly as a double
+    return (float) parseFloatingPoint(input, start, end, true);
+  }
+
+  private static double parseFloatingPoint(
+      CharSequence input, int start, int end, boolean asFloat) {
+    String type = asFloat ? "a float" : "a double";
+    int from = skipLeadingWhitespace(input, start, end);
+    int to = skipTrailingWhitespace(input, from, end);
+    if (from == to) {
+      throw new NumberFormatException(format("Cannot parse an empty value as %s", type));
+    }
+
+    int i = from;
+    boolean negative = input.charAt(i) == '-';
+    if (negative || input.charAt(i) == '+') {
+      i++;
+    }
+
+    // read up to 19 significant digits into the mantissa, adjusting the exponent for the others
+    long mantissa = 0;
+    int mantissaDigits = 0;
+    int exponent = 0;
+    int digits = 0;
+    boolean truncated = false;
+    boolean fraction = false;
+    for (; i < to; i++) {
+      char c = input.charAt(i);
+      if (c == '.' && !fraction) {
+        fraction = true;
+        continue;
+      }
+
+      int digit = c - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+
+      digits++;
+      if (mantissa == 0 && digit == 0) {
+        // leading zeros are not significant
+        if (fraction) {
+          exponent--;
+        }
+      } else if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+        mantissa = mantissa * 10 + digit;
+        mantissaDigits++;
+        if (fraction) {
+          exponent--;
+        }
+      } else {
+        truncated |= digit != 0;
+        if (!fraction) {
+          exponent++;
+        }
+      }
+    }
+    if (digits == 0) {
+      throw noDigits(input, start, end, type);
+    }
+
+    // read the exponent, if any
+    if (i < to && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+      i++;
+      boolean negativeExponent = i < to && input.charAt(i) == '-';
+      if (i < to && (negativeExponent || input.charAt(i) == '+')) {
+        i++;
+      }
+      if (i == to) {
+        throw noDigits(input, start, end, type);
+      }
+
+      int explicitExponent = 0;
+      for (; i < to; i++) {
+        int digit = input.charAt(i) - '0';
+        if (digit < 0 || digit > 9) {
+          throw unexpectedCharacter(input, start, end, i, type);
+        }
+        // values beyond this exponent overflow or underflow regardless of their digits
+        if (explicitExponent < MAX_EXPONENT) {
+          explicitExponent = explicitExponent * 10 + digit;
+        }
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+
+    if (i != to) {
+      throw unexpectedCharacter(input, start, end, i, type);
+    }
+
+    if (mantissa == 0) {
+      return negative ? -0.0 : 0.0;
+    }
+
+    // if both the mantissa and the power of ten are exactly representable, a single
+    // multiplication or division is correctly rounded
+    double value;
+    if (asFloat && !truncated && mantissa <= MAX_EXACT_FLOAT && Math.abs(exponent) <= 10) {
+      float result = mantissa;
+      value = exponent < 0 ? result / FLOAT_POWERS[-exponent] : result * FLOAT_POWERS[exponent];
+    } else if (!asFloat && !truncated && mantissa <= MAX_EXACT_DOUBLE && Math.abs(exponent) <= 22) {
+      double result = mantissa;
+      value = exponent < 0 ? result / DOUBLE_POWERS[-exponent] : result * DOUBLE_POWERS[exponent];
+    } else {
+      String validated = input.subSequence(from, to).toString();
+      double result = asFloat ? Float.parseFloat(validated) : Double.parseDouble(validated);
+      if (Double.isInfinite(result)) {
+        throw outOfRange(input, start, end, type);
+      }
+      return result;
+    }
+
+    return negative ? -value : value;
+  }
+
+  private static int skipLeadingWhitespace(CharSequence input, int start, int end) {
+    int i = start;
+    while (i < end && Character.isWhitespace(input.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int skipTrailingWhitespace(CharSequence input, int start, int end) {
+    int i = end;
+    while (i > start && Character.isWhitespace(input.charAt(i - 1))) {
+      i--;
+    }
+    return i;
+  }
+
+  private static NumberFormatException unexpectedCharacter(
+      CharSequence input, int start, int end, int index, String type) {
+    return new NumberFormatException(
+        format(
+            "Cannot parse '%s' as %s: unexpected character '%c' at index %d",
+            input.subSequence(start, end), type, input.charAt(index), index - start));
+  }
+
+  private static NumberFormatException noDigits(
+      CharSequence input, int start, int end, String type) {
+    return new NumberFormatException(
+        format("Cannot parse '%s' as %s: missing digits", input.subSequence(start, end), type));
+  }
+
+  private static NumberFormatException outOfRange(
+      CharSequence input, int start, int end, String type) {
+    return new NumberFormatException(
+        format("Cannot parse '%s' as %s: out of range", input.subSequence(start, end), type));
+  }
+}
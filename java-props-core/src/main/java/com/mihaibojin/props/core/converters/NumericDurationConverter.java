@@ -16,7 +16,7 @@
 
 package com.mihaibojin.props.core.converters;
 
-import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseNumber;
+import static com.mihaibojin.props.core.converters.ConverterUtils.safeParseLong;
 import static java.util.Objects.isNull;
 
 import com.mihaibojin.props.core.annotations.Nullable;
@@ -24,17 +24,17 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 
 /** Converter that casts the input {@link Number} to an {@link Duration} value. */
-public interface NumericDurationConverter extends Converter<Duration> {
+public interface NumericDurationConverter extends ImmutableConverter<Duration> {
 
   @Override
   @Nullable
   default Duration decode(String value) {
-    Number number = safeParseNumber(value);
+    Long number = safeParseLong(value);
     if (isNull(number)) {
       return null;
     }
 
-    return Duration.of(number.longValue(), unit());
+    return Duration.of(number, unit());
   }
 
   /**
@@ -19,7 +19,7 @@ package com.mihaibojin.props.core.converters;
 import java.nio.file.Path;
 
 /** Converter that returns the inputted {@link String}. */
-public interface PathConverter extends Converter<Path> {
+public interface PathConverter extends ImmutableConverter<Path> {
 
   /**
    * If true, <code>~</code> will expand to the user's home directory, as returned by <code>
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.logging.Level.SEVERE;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable set of regular expressions, compiled once into a combined matcher which checks whether
+ * an input fully matches any of them (as {@link java.util.regex.Matcher#matches()} does).
+ *
+ * <ul>
+ *   <li>literal patterns (e.g., <code>api\.example\.com</code>) and literal prefixes followed by
+ *       <code>.*</code> (e.g., <code>/internal/.*</code>) are compiled into a single deterministic
+ *       automaton (a character trie), which is walked once, in time linear in the input's length,
+ *       regardless of how many patterns it holds
+ *   <li>all other patterns are combined into a single {@link Pattern}, as alternatives
+ *   <li>patterns which cannot be safely combined, e.g., because they use back-references, named
+ *       groups, quoting (<code>\Q</code>), or comments, are matched one at a time
+ * </ul>
+ */
+public class PatternSet {
+
+  private static final Logger log = Logger.getLogger(PatternSet.class.getName());
+
+  private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+  private static final String ANY_SUFFIX = ".*";
+  private static final byte EXACT = 1;
+  private static final byte PREFIX = 2;
+
+  private final List<String> patterns;
+  // the automaton's transitions, sorted by character, and the node each of them leads to
+  private final char[][] labels;
+  private final int[][] targets;
+  private final byte[] accepts;
+  @Nullable private final Pattern combined;
+  private final List<Pattern> separate;
+
+  private PatternSet(
+      List<String> patterns,
+      char[][] labels,
+      int[][] targets,
+      byte[] accepts,
+      @Nullable Pattern combined,
+      List<Pattern> separate) {
+    this.patterns = List.copyOf(patterns);
+    this.labels = labels;
+    this.targets = targets;
+    this.accepts = accepts;
+    this.combined = combined;
+    this.separate = separate;
+  }
+
+  /**
+   * Compiles the specified patterns into a set.
+   *
+   * @throws PatternSyntaxException if any of the patterns is invalid
+   */
+  public static PatternSet of(String... patterns) {
+    SetCompiler compiler = new SetCompiler();
+    for (String pattern : patterns) {
+      compiler.add(pattern);
+    }
+    return compiler.build();
+  }
+
+  /**
+   * Compiles the specified patterns into a set; patterns which are invalid are logged and skipped,
+   * and empty patterns are ignored.
+   */
+  static PatternSet parse(List<String> patterns) {
+    SetCompiler compiler = new SetCompiler();
+    for (String pattern : patterns) {
+      if (pattern.isEmpty()) {
+        continue;
+      }
+
+      try {
+        compiler.add(pattern);
+      } catch (PatternSyntaxException e) {
+        log.log(SEVERE, e, () -> format("Could not compile '%s'", pattern));
+      }
+    }
+    return compiler.build();
+  }
+
+  /** Returns true if the specified input fully matches any of the patterns. */
+  public boolean matchesAny(CharSequence input) {
+    if (matchesLiteral(input)) {
+      return true;
+    }
+    if (!isNull(combined) && combined.matcher(input).matches()) {
+      return true;
+    }
+    for (Pattern pattern : separate) {
+      if (pattern.matcher(input).matches()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the patterns in this set, in the order in which they were defined. */
+  public List<String> patterns() {
+    return patterns;
+  }
+
+  /** Walks the automaton, without allocating. */
+  private boolean matchesLiteral(CharSequence input) {
+    int node = 0;
+    int lastTerminator = -2;
+    for (int i = 0; ; i++) {
+      if ((accepts[node] & PREFIX) != 0) {
+        // '.' does not match line terminators, so .* only matches the rest of the input if it has
+        // none; the input is only scanned for them once
+        if (lastTerminator == -2) {
+          lastTerminator = lastLineTerminator(input);
+        }
+        if (lastTerminator < i) {
+          return true;
+        }
+      }
+      if (i == input.length()) {
+        return (accepts[node] & EXACT) != 0;
+      }
+
+      char[] nodeLabels = labels[node];
+      int index = binarySearch(nodeLabels, input.charAt(i));
+      if (index < 0) {
+        return false;
+      }
+      node = targets[node][index];
+    }
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PatternSet)) {
+      return false;
+    }
+
+    PatternSet that = (PatternSet) o;
+    return patterns.equals(that.patterns);
+  }
+
+  @Override
+  public int hashCode() {
+    return patterns.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return patterns.toString();
+  }
+
+  private static int binarySearch(char[] values, char key) {
+    // most nodes have a single transition
+    if (values.length == 1) {
+      return values[0] == key ? 0 : -1;
+    }
+    return Arrays.binarySearch(values, key);
+  }
+
+  /** Returns the index of the input's last line terminator, or -1 if it has none. */
+  private static int lastLineTerminator(CharSequence input) {
+    for (int i = input.length() - 1; i >= 0; i--) {
+      char c = input.charAt(i);
+      if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the text matched by the first <code>end</code> characters of the pattern, or <code>
+   * null</code> if they contain any constructs other than literal characters.
+   */
+  @Nullable
+  private static String literal(String pattern, int end) {
+    StringBuilder result = new StringBuilder(end);
+    for (int i = 0; i < end; i++) {
+      char c = pattern.charAt(i);
+      if (c == '\\') {
+        // backslashes only quote non-alphanumeric characters; all other escapes are constructs
+        if (i + 1 == end || Character.isLetterOrDigit(pattern.charAt(i + 1))) {
+          return null;
+        }
+        result.append(pattern.charAt(++i));
+      } else if (METACHARACTERS.indexOf(c) >= 0) {
+        return null;
+      } else {
+        result.append(c);
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * Returns true if the pattern cannot be wrapped in a group and combined with other patterns,
+   * because the combined pattern would renumber its groups, redefine its named groups, or end up in
+   * its quoted section or comment.
+   */
+  private static boolean isStandalone(String pattern) {
+    for (int i = 0; i < pattern.length() - 1; i++) {
+      char c = pattern.charAt(i);
+      char next = pattern.charAt(i + 1);
+      if (c == '\\' && (Character.isDigit(next) || next == 'k' || next == 'Q')) {
+        return true;
+      }
+      if (c == '(' && pattern.startsWith("?<", i + 1) && i + 3 < pattern.length()) {
+        char name = pattern.charAt(i + 3);
+        if (name != '=' && name != '!') {
+          return true;
+        }
+      }
+      if (c == '\\') {
+        // skip escaped characters
+        i++;
+      }
+    }
+    return pattern.indexOf('#') >= 0;
+  }
+
+  /** Sorts patterns into the automaton, the combined pattern, or the standalone patterns. */
+  private static class SetCompiler {
+    private final List<String> patterns = new ArrayList<>();
+    private final List<TreeMap<Character, Integer>> nodes = new ArrayList<>();
+    private final List<Byte> accepts = new ArrayList<>();
+    private final StringBuilder combined = new StringBuilder();
+    private final List<Pattern> separate = new ArrayList<>();
+
+    private SetCompiler() {
+      newNode();
+    }
+
+    /**
+     * Adds the specified pattern to the set.
+     *
+     * @throws PatternSyntaxException if the pattern is invalid
+     */
+    private void add(String pattern) {
+      Pattern compiled = Pattern.compile(pattern);
+      patterns.add(pattern);
+
+      String literal = literal(pattern, pattern.length());
+      if (!isNull(literal)) {
+        insert(literal, EXACT);
+        return;
+      }
+
+      if (pattern.endsWith(ANY_SUFFIX)) {
+        String prefix = literal(pattern, pattern.length() - ANY_SUFFIX.length());
+        if (!isNull(prefix)) {
+          insert(prefix, PREFIX);
+          return;
+        }
+      }
+
+      if (isStandalone(pattern)) {
+        separate.add(compiled);
+        return;
+      }
+
+      if (combined.length() > 0) {
+        combined.append('|');
+      }
+      combined.append("(?:").append(pattern).append(')');
+    }
+
+    private void insert(String literal, byte accept) {
+      int node = 0;
+      for (int i = 0; i < literal.length(); i++) {
+        Integer next = nodes.get(node).get(literal.charAt(i));
+        if (isNull(next)) {
+          next = newNode();
+          nodes.get(node).put(literal.charAt(i), next);
+        }
+        node = next;
+      }
+      accepts.set(node, (byte) (accepts.get(node) | accept));
+    }
+
+    private int newNode() {
+      nodes.add(new TreeMap<>());
+      accepts.add((byte) 0);
+      return nodes.size() - 1;
+    }
+
+    private PatternSet build() {
+      char[][] labels = new char[nodes.size()][];
+      int[][] targets = new int[nodes.size()][];
+      byte[] accepting = new byte[nodes.size()];
+      for (int node = 0; node < nodes.size(); node++) {
+        Map<Character, Integer> transitions = nodes.get(node);
+        labels[node] = new char[transitions.size()];
+        targets[node] = new int[transitions.size()];
+        int i = 0;
+        for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+          labels[node][i] = transition.getKey();
+          targets[node][i] = transition.getValue();
+          i++;
+        }
+        accepting[node] = accepts.get(node);
+      }
+
+      Pattern pattern = combined.length() > 0 ? Pattern.compile(combined.toString()) : null;
+      return new PatternSet(
+          List.copyOf(patterns), labels, targets, accepting, pattern, List.copyOf(separate));
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static com.mihaibojin.props.core.converters.ConverterUtils.splitString;
+
+/**
+ * Converter that splits the inputted {@link String} into regular expressions and compiles them
+ * into a {@link PatternSet}.
+ *
+ * <p>Unlike other list converters, the expressions are separated by newlines (<code>"\n"</code>),
+ * since commas are commonly part of regular expressions (e.g., <code>\d{2,3}</code>). The
+ * separator can be configured by overriding {@link ListConverter#separator()}.
+ */
+public interface PatternSetConverter extends ImmutableConverter<PatternSet>, ListConverter {
+
+  /** Separates the regular expressions by newlines. */
+  @Override
+  default String separator() {
+    return "\n";
+  }
+
+  @Override
+  default PatternSet decode(String value) {
+    return PatternSet.parse(splitString(value, separator()));
+  }
+
+  @Override
+  default String encode(PatternSet value) {
+    return String.join(separator(), value.patterns());
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mihaibojin.props.core.internal;
+
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over a set of string keys.
+ *
+ * <p>Each key sets <code>k</code> bits, derived from its {@link String#hashCode()} via double
+ * hashing. The number of bits and hash functions are chosen to achieve the requested false
+ * positive rate for the number of keys provided at construction.
+ */
+public class BloomFilter implements KeyFilter {
+
+  private final long[] bits;
+  private final int numBits;
+  private final int numHashes;
+
+  /**
+   * Creates a filter containing the specified keys.
+   *
+   * @param falsePositiveRate the desired probability of {@link #mightContain(String)} returning
+   *     true for a key which was not added, between 0 and 1 (exclusive)
+   * @throws IllegalArgumentException if the false positive rate is out of range
+   */
+  public BloomFilter(Collection<String> keys, double falsePositiveRate) {
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException("The false positive rate must be between 0 and 1");
+    }
+
+    int count = Math.max(1, keys.size());
+    double optimalBits = -count * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+    numBits = (int) Math.min(Math.max(64, Math.ceil(optimalBits)), Integer.MAX_VALUE - 64);
+    numHashes = Math.max(1, (int) Math.round((double) numBits / count * Math.log(2)));
+    bits = new long[(numBits + 63) >>> 6];
+
+    for (String key : keys) {
+      add(key);
+    }
+  }
+
+  private void add(String key) {
+    int hash1 = mix(key.hashCode());
+    int hash2 = mix(hash1 ^ 0x9e3779b9) | 1;
+    for (int i = 0; i < numHashes; i++) {
+      int index = Math.floorMod(hash1 + i * hash2, numBits);
+      bits[index >>> 6] |= 1L << index;
+    }
+  }
+
+  @Override
+  public boolean mightContain(String key) {
+    int hash1 = mix(key.hashCode());
+    int hash2 = mix(hash1 ^ 0x9e3779b9) | 1;
+    for (int i = 0; i < numHashes; i++) {
+      int index = Math.floorMod(hash1 + i * hash2, numBits);
+      if ((bits[index >>> 6] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Spreads the bits of a hash code (MurmurHash3's finalizer). */
+  private static int mix(int hash) {
+    int h = hash;
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    return h;
+  }
+}
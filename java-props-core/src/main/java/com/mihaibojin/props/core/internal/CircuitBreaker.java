@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mihaibojin.props.core.internal;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks the consecutive failures of a recurring operation and, once they reach a threshold,
+ * rejects further attempts for an exponentially increasing backoff period.
+ *
+ * <p>After the backoff period passes, a single attempt is allowed; if it succeeds, the breaker
+ * closes, otherwise the backoff period doubles, up to a maximum.
+ *
+ * <p>Attempts are acquired and their outcomes recorded by a single thread, while {@link
+ * #release()} may be called from the thread performing the operation.
+ */
+public class CircuitBreaker {
+
+  private final int failureThreshold;
+  private final long backoffNanos;
+  private final long maxBackoffNanos;
+  private final AtomicBoolean running = new AtomicBoolean();
+  private int failures;
+  private long openUntil;
+
+  /**
+   * Constructs a circuit breaker.
+   *
+   * @param failureThreshold the number of consecutive failures which open the breaker
+   * @param backoff the initial duration for which the breaker stays open
+   * @param maxBackoff the maximum duration for which the breaker stays open
+   */
+  public CircuitBreaker(int failureThreshold, Duration backoff, Duration maxBackoff) {
+    if (failureThreshold <= 0) {
+      throw new IllegalArgumentException("The failure threshold must be positive");
+    }
+
+    this.failureThreshold = failureThreshold;
+    this.backoffNanos = Math.max(1, backoff.toNanos());
+    this.maxBackoffNanos = maxBackoff.toNanos();
+  }
+
+  /**
+   * Returns true if the operation can be attempted: the breaker is closed (or its backoff period
+   * passed) and a previous attempt is not still running.
+   *
+   * <p>Callers which acquire an attempt must call {@link #release()} once it finishes.
+   */
+  public boolean tryAcquire(long nowNanos) {
+    if (isOpen(nowNanos)) {
+      return false;
+    }
+    return running.compareAndSet(false, true);
+  }
+
+  /** Marks the current attempt as finished, allowing another one to start. */
+  public void release() {
+    running.set(false);
+  }
+
+  /** Closes the breaker. */
+  public void recordSuccess() {
+    failures = 0;
+  }
+
+  /** Records a failed attempt and, if the threshold was reached, opens the breaker. */
+  public void recordFailure(long nowNanos) {
+    failures++;
+    if (failures < failureThreshold) {
+      return;
+    }
+
+    // double the backoff for every failure past the threshold, guarding against overflows
+    int doublings = Math.min(failures - failureThreshold, 62);
+    long backoff =
+        backoffNanos > (maxBackoffNanos >> doublings)
+            ? maxBackoffNanos
+            : Math.min(maxBackoffNanos, backoffNanos << doublings);
+    openUntil = nowNanos + backoff;
+  }
+
+  /** Returns true if the breaker is currently rejecting attempts. */
+  public boolean isOpen(long nowNanos) {
+    return failures >= failureThreshold && nowNanos - openUntil < 0;
+  }
+}
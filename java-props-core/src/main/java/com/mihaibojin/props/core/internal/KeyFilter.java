@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mihaibojin.props.core.internal;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Membership filter which can determine that a key is definitely not defined by a resolver,
+ * allowing lookups to skip it.
+ */
+public interface KeyFilter {
+
+  /** Key sets larger than this are represented by a {@link BloomFilter}. */
+  int EXACT_THRESHOLD = 10_000;
+
+  /**
+   * Returns <code>false</code> if the key is definitely not contained in the filter, or <code>true
+   * </code> if it might be.
+   */
+  boolean mightContain(String key);
+
+  /**
+   * Creates a filter for the specified keys; small key sets are copied and matched exactly, while
+   * large ones are summarized by a {@link BloomFilter} with a 1% false positive rate.
+   */
+  static KeyFilter of(Collection<String> keys) {
+    if (keys.size() <= EXACT_THRESHOLD) {
+      return Set.copyOf(keys)::contains;
+    }
+    return new BloomFilter(keys, 0.01);
+  }
+}
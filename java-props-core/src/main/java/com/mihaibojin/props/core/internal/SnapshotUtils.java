@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.internal;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.logging.Level.SEVERE;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import com.mihaibojin.props.core.resolvers.ResolverUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/** Reads and writes last-known-good snapshots of resolved prop values. */
+public class SnapshotUtils {
+
+  private static final Logger log = Logger.getLogger(SnapshotUtils.class.getName());
+
+  /**
+   * Reads a snapshot previously written by {@link #write(Path, Map)}.
+   *
+   * <p>A missing or unreadable snapshot is not an error; this method returns an empty map instead.
+   */
+  public static Map<String, String> read(Path location) {
+    if (!Files.exists(location)) {
+      return Map.of();
+    }
+
+    try (InputStream stream = Files.newInputStream(location)) {
+      return ResolverUtils.loadPropertiesFromStream(stream);
+
+    } catch (IOException | IllegalArgumentException e) {
+      log.log(SEVERE, e, () -> format("Could not read the props snapshot from %s", location));
+      return Map.of();
+    }
+  }
+
+  /**
+   * Writes the specified values to disk, replacing any existing snapshot.
+   *
+   * <p>The values are first written to a temporary file in the same directory, which is then moved
+   * over the destination, ensuring that readers never observe a partially written snapshot.
+   *
+   * @return true if the snapshot was written successfully
+   */
+  public static boolean write(Path location, Map<String, String> values) {
+    Properties properties = new Properties();
+    properties.putAll(values);
+
+    Path target = location.toAbsolutePath();
+    Path tmp = null;
+    try {
+      tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+      try (OutputStream stream = Files.newOutputStream(tmp)) {
+        properties.store(stream, "props snapshot");
+      }
+
+      try {
+        Files.move(
+            tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      return true;
+
+    } catch (IOException e) {
+      log.log(SEVERE, e, () -> format("Could not write the props snapshot to %s", location));
+      deleteQuietly(tmp);
+      return false;
+    }
+  }
+
+  /** Removes a leftover temporary file, if one was created. */
+  private static void deleteQuietly(@Nullable Path path) {
+    if (isNull(path)) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.log(SEVERE, e, () -> format("Could not delete %s", path));
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mihaibojin.props.core.resolvers;
+
+import static java.lang.String.format;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link Resolver} whose lookups may be slow (e.g., because values are retrieved from a remote
+ * store), and which can therefore answer them asynchronously.
+ *
+ * <p>{@link com.mihaibojin.props.core.Props} uses {@link #getAsync(String)} for non-blocking
+ * lookups, which can be bounded by a deadline; if the deadline passes, the lookup falls back to the
+ * next resolver, or to the prop's default value. Synchronous lookups, e.g., those performed while
+ * refreshing bound props, block on {@link #get(String)}, for at most {@link #syncTimeout()}.
+ */
+public interface AsyncResolver extends Resolver {
+
+  /** The default value of {@link #syncTimeout()}. */
+  Duration DEFAULT_SYNC_TIMEOUT = Duration.ofSeconds(10);
+
+  /**
+   * Returns a {@link CompletableFuture} which completes with the value of the specified key, or
+   * with <code>null</code> if the property is not defined.
+   */
+  CompletableFuture<String> getAsync(String key);
+
+  /**
+   * Returns the maximum duration for which {@link #get(String)} waits for {@link
+   * #getAsync(String)} to complete. Defaults to {@link #DEFAULT_SYNC_TIMEOUT}.
+   */
+  default Duration syncTimeout() {
+    return DEFAULT_SYNC_TIMEOUT;
+  }
+
+  /**
+   * Blocks until {@link #getAsync(String)} completes, or until {@link #syncTimeout()} passes.
+   *
+   * @throws CompletionException if the lookup failed or did not complete in time; timeouts are
+   *     reported with a {@link TimeoutException} cause
+   */
+  @Override
+  @Nullable
+  default String get(String key) {
+    try {
+      return getAsync(key).get(syncTimeout().toNanos(), TimeUnit.NANOSECONDS);
+
+    } catch (ExecutionException e) {
+      throw new CompletionException(e.getCause());
+
+    } catch (TimeoutException e) {
+      throw new CompletionException(
+          format("Could not resolve %s from %s within %s", key, id(), syncTimeout()), e);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CompletionException(e);
+    }
+  }
+}
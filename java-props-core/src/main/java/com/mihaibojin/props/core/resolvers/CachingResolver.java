@@ -0,0 +1,407 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.logging.Level.SEVERE;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * Decorates an expensive {@link Resolver} (e.g., one backed by a remote store), caching the values
+ * it returns for each key, including missing values.
+ *
+ * <p>Cached values expire after a configurable TTL. Values which are read after their refresh
+ * interval, but before they expire, are returned immediately and reloaded in the background, so
+ * frequently read keys are not blocked by the decorated resolver.
+ *
+ * <p>The cache holds a bounded number of keys, evicted with a W-TinyLFU policy: new keys enter a
+ * small LRU window and, when they are evicted from it, they only replace the main region's LRU
+ * victim if they were accessed more frequently (as estimated by a {@link FrequencySketch}). This
+ * protects frequently read keys from being evicted by bursts of keys that are only read once.
+ *
+ * <p>Keys reported as changed by {@link #reload()} or by the decorated resolver's {@link
+ * #changes()} are invalidated before they are reported to the caller.
+ */
+public class CachingResolver implements Resolver {
+
+  private static final Logger log = Logger.getLogger(CachingResolver.class.getName());
+
+  // background refreshes call the decorated resolver, which can block; as such, they are run on
+  // dedicated daemon threads, instead of on the common ForkJoinPool
+  private static final Executor REFRESH_EXECUTOR =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final Resolver delegate;
+  private final long ttlNanos;
+  private final long refreshAfterNanos;
+  private final Executor executor;
+  private final ConcurrentHashMap<String, CachedValue> cache = new ConcurrentHashMap<>();
+  @Nullable private final SubmissionPublisher<Set<String>> publisher;
+
+  // eviction policy state and cache writes are guarded by policyLock
+  private final ReentrantLock policyLock = new ReentrantLock();
+  private final AtomicLong invalidations = new AtomicLong();
+  private final LinkedHashMap<String, Boolean> window = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<String, Boolean> main = new LinkedHashMap<>(16, 0.75f, true);
+  private final FrequencySketch sketch;
+  private final int windowSize;
+  private final int mainSize;
+
+  /**
+   * Constructs a cache which holds up to <code>maximumSize</code> keys for the specified <code>ttl
+   * </code>, refreshing them in the background once they reach 75% of their TTL.
+   *
+   * <p>Background refreshes run on a pool of daemon threads, shared by all instances created with
+   * this constructor.
+   */
+  public CachingResolver(Resolver delegate, int maximumSize, Duration ttl) {
+    this(delegate, maximumSize, ttl, ttl.multipliedBy(3).dividedBy(4), REFRESH_EXECUTOR);
+  }
+
+  /**
+   * Constructs a caching {@link Resolver}.
+   *
+   * @param delegate the resolver whose values will be cached
+   * @param maximumSize the maximum number of keys to cache
+   * @param ttl the duration after which a cached value expires and must be loaded synchronously
+   * @param refreshAfter the duration after which a cached value is reloaded in the background, the
+   *     next time it is read
+   * @param executor runs background refreshes
+   * @throws IllegalArgumentException if the maximum size is not positive, or if the refresh
+   *     interval is not shorter than the TTL
+   */
+  public CachingResolver(
+      Resolver delegate, int maximumSize, Duration ttl, Duration refreshAfter, Executor executor) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("The maximum size must be positive");
+    }
+    if (refreshAfter.compareTo(ttl) >= 0) {
+      throw new IllegalArgumentException("The refresh interval must be shorter than the TTL");
+    }
+
+    this.delegate = delegate;
+    this.ttlNanos = ttl.toNanos();
+    this.refreshAfterNanos = refreshAfter.toNanos();
+    this.executor = executor;
+
+    // dedicate 1% of the capacity to the admission window
+    windowSize = Math.max(1, maximumSize / 100);
+    mainSize = maximumSize - windowSize;
+    sketch = new FrequencySketch(maximumSize);
+
+    // invalidate pushed keys before forwarding them
+    Flow.Publisher<Set<String>> changes = delegate.changes();
+    if (isNull(changes)) {
+      publisher = null;
+    } else {
+      publisher = new SubmissionPublisher<>();
+      changes.subscribe(new InvalidatingSubscriber(publisher));
+    }
+  }
+
+  @Override
+  @Nullable
+  public String get(String key) {
+    CachedValue cached = cache.get(key);
+    if (!isNull(cached) && isFresh(cached, System.nanoTime())) {
+      return cached.value;
+    }
+
+    long stamp = invalidations.get();
+    String value = delegate.get(key);
+    store(key, value, stamp);
+    return value;
+  }
+
+  @Override
+  public Map<String, String> getAll(Collection<String> keys) {
+    Map<String, String> values = new HashMap<>();
+    List<String> misses = new ArrayList<>();
+
+    long now = System.nanoTime();
+    for (String key : keys) {
+      CachedValue cached = cache.get(key);
+      if (isNull(cached) || !isFresh(cached, now)) {
+        misses.add(key);
+      } else if (!isNull(cached.value)) {
+        values.put(key, cached.value);
+      }
+    }
+
+    if (misses.isEmpty()) {
+      return values;
+    }
+
+    // retrieve all misses with a single call, caching any missing keys as well
+    long stamp = invalidations.get();
+    Map<String, String> loaded = delegate.getAll(misses);
+    for (String key : misses) {
+      store(key, loaded.get(key), stamp);
+    }
+    values.putAll(loaded);
+    return values;
+  }
+
+  /**
+   * Returns true if the cached value has not expired, recording the access and scheduling a
+   * background refresh if it is due.
+   */
+  private boolean isFresh(CachedValue cached, long now) {
+    long age = now - cached.loadedAt;
+    if (age >= ttlNanos) {
+      return false;
+    }
+
+    recordAccess(cached.key);
+    if (age >= refreshAfterNanos && cached.refreshing.compareAndSet(false, true)) {
+      scheduleRefresh(cached);
+    }
+    return true;
+  }
+
+  /** Reloads the specified value in the background, replacing it only if it was not invalidated. */
+  private void scheduleRefresh(CachedValue cached) {
+    try {
+      executor.execute(
+          () -> {
+            try {
+              long stamp = invalidations.get();
+              CachedValue refreshed =
+                  new CachedValue(cached.key, delegate.get(cached.key), System.nanoTime());
+              policyLock.lock();
+              try {
+                if (invalidations.get() == stamp) {
+                  cache.replace(cached.key, cached, refreshed);
+                }
+              } finally {
+                policyLock.unlock();
+              }
+            } catch (RuntimeException e) {
+              log.log(SEVERE, e, () -> format("Could not refresh %s", cached.key));
+              cached.refreshing.set(false);
+            }
+          });
+
+    } catch (RejectedExecutionException e) {
+      cached.refreshing.set(false);
+    }
+  }
+
+  /**
+   * Caches the specified value, unless any keys were invalidated since the value was loaded, in
+   * which case it might be stale.
+   */
+  private void store(String key, @Nullable String value, long stamp) {
+    CachedValue cached = new CachedValue(key, value, System.nanoTime());
+    policyLock.lock();
+    try {
+      if (invalidations.get() == stamp) {
+        cache.put(key, cached);
+        admit(key);
+      }
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  /** Records a cache hit; hits are dropped if the policy is busy, to avoid contending readers. */
+  private void recordAccess(String key) {
+    if (!policyLock.tryLock()) {
+      return;
+    }
+
+    try {
+      sketch.increment(key);
+      if (isNull(window.get(key))) {
+        main.get(key);
+      }
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  /** Adds the key to the admission window, evicting keys if the cache is full. */
+  private void admit(String key) {
+    sketch.increment(key);
+    if (!isNull(window.get(key)) || !isNull(main.get(key))) {
+      // the key was already tracked
+      return;
+    }
+
+    window.put(key, Boolean.TRUE);
+    if (window.size() <= windowSize) {
+      return;
+    }
+
+    // move the window's LRU key to the main region, if it has room
+    String candidate = removeEldest(window);
+    if (main.size() < mainSize) {
+      main.put(candidate, Boolean.TRUE);
+      return;
+    }
+
+    // otherwise, keep whichever of the candidate and the main region's victim is used more often
+    if (main.isEmpty()) {
+      cache.remove(candidate);
+      return;
+    }
+
+    String victim = main.keySet().iterator().next();
+    if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+      main.remove(victim);
+      cache.remove(victim);
+      main.put(candidate, Boolean.TRUE);
+    } else {
+      cache.remove(candidate);
+    }
+  }
+
+  private static String removeEldest(LinkedHashMap<String, Boolean> region) {
+    Iterator<String> iterator = region.keySet().iterator();
+    String eldest = iterator.next();
+    iterator.remove();
+    return eldest;
+  }
+
+  /** Removes the specified keys from the cache. */
+  private void invalidate(Set<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    policyLock.lock();
+    try {
+      invalidations.incrementAndGet();
+      for (String key : keys) {
+        cache.remove(key);
+        window.remove(key);
+        main.remove(key);
+      }
+    } finally {
+      policyLock.unlock();
+    }
+  }
+
+  /** Returns the number of cached keys. */
+  int size() {
+    return cache.size();
+  }
+
+  @Override
+  public Set<String> reload() {
+    Set<String> keys = delegate.reload();
+    invalidate(keys);
+    return keys;
+  }
+
+  @Override
+  public boolean isReloadable() {
+    return delegate.isReloadable();
+  }
+
+  @Override
+  public long version() {
+    return delegate.version();
+  }
+
+  @Override
+  @Nullable
+  public Flow.Publisher<Set<String>> changes() {
+    return publisher;
+  }
+
+  @Override
+  @Nullable
+  public Set<String> keys() {
+    return delegate.keys();
+  }
+
+  @Override
+  public String id() {
+    return delegate.id();
+  }
+
+  /** Holds a cached value, which can be <code>null</code> if the key was not defined. */
+  private static class CachedValue {
+    private final String key;
+    @Nullable private final String value;
+    private final long loadedAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private CachedValue(String key, @Nullable String value, long loadedAt) {
+      this.key = key;
+      this.value = value;
+      this.loadedAt = loadedAt;
+    }
+  }
+
+  /** Invalidates the keys pushed by the decorated resolver and forwards them. */
+  private class InvalidatingSubscriber implements Flow.Subscriber<Set<String>> {
+    private final SubmissionPublisher<Set<String>> publisher;
+
+    private InvalidatingSubscriber(SubmissionPublisher<Set<String>> publisher) {
+      this.publisher = publisher;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Set<String> keys) {
+      invalidate(keys);
+      publisher.submit(keys);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      publisher.closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      publisher.close();
+    }
+  }
+}
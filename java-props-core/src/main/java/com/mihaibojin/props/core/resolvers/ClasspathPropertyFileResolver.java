@@ -22,6 +22,7 @@ import static java.util.Objects.isNull;
 import com.mihaibojin.props.core.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -74,6 +75,11 @@ public class ClasspathPropertyFileResolver implements Resolver {
     return isReloadable;
   }
 
+  @Override
+  public Set<String> keys() {
+    return Collections.unmodifiableSet(store.keySet());
+  }
+
   @Override
   public String id() {
     return location;
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static java.lang.String.format;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.SEVERE;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Loads properties from a directory, where each file name is a key and the file's contents are the
+ * value (e.g., Kubernetes ConfigMap and Secret volume mounts).
+ *
+ * <p>Hidden files (starting with <code>.</code>) and subdirectories are ignored. A single trailing
+ * newline is removed from each value.
+ *
+ * <p>On reload, only files whose modification time or size changed are read again. If the
+ * directory contains a <code>..data</code> symlink (as created by Kubernetes), a change of its
+ * target is treated as an atomic swap and all files are reread. In either case, all changes
+ * observed during a reload are published at once.
+ */
+public class DirectoryResolver implements Resolver {
+
+  private static final Logger log = Logger.getLogger(DirectoryResolver.class.getName());
+  private static final String DATA_LINK = "..data";
+
+  private final Path location;
+  private final boolean isReloadable;
+  private final Map<String, FileStamp> stamps = new HashMap<>();
+  @Nullable private Path dataTarget;
+  //  deepcode ignore AvoidUsingVolatile: allows publishing all changes at once
+  private volatile Map<String, String> store = Map.of();
+
+  /** Constructs a {@link Resolver} which should only read the directory once. */
+  public DirectoryResolver(Path location) {
+    this(location, false);
+  }
+
+  public DirectoryResolver(Path location, boolean isReloadable) {
+    this.location = location;
+    this.isReloadable = isReloadable;
+  }
+
+  @Override
+  public boolean isReloadable() {
+    return isReloadable;
+  }
+
+  @Override
+  @Nullable
+  public String get(String key) {
+    return store.get(key);
+  }
+
+  @Override
+  public synchronized Set<String> reload() {
+    if (!Files.isDirectory(location)) {
+      if (log.isLoggable(FINE)) {
+        log.fine(
+            () ->
+                format(
+                    "Skipping %s; directory not found at %s",
+                    getClass().getSimpleName(), location));
+      }
+      return Set.of();
+    }
+
+    try {
+      // if the data link was swapped, all files must be reread
+      Path target = readDataTarget();
+      boolean swapped = !Objects.equals(target, dataTarget);
+
+      Map<String, FileStamp> seen = new HashMap<>();
+      Map<String, String> updated = new HashMap<>();
+      try (DirectoryStream<Path> entries = Files.newDirectoryStream(location)) {
+        for (Path entry : entries) {
+          String key = entry.getFileName().toString();
+          if (key.startsWith(".")) {
+            continue;
+          }
+
+          // follows symlinks, retrieving the attributes of the actual file
+          BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+          if (!attributes.isRegularFile()) {
+            continue;
+          }
+
+          FileStamp stamp = new FileStamp(attributes);
+          seen.put(key, stamp);
+          if (swapped || !stamp.equals(stamps.get(key))) {
+            updated.put(key, readValue(entry));
+          }
+        }
+      }
+
+      Set<String> changed = publish(seen.keySet(), updated);
+
+      stamps.clear();
+      stamps.putAll(seen);
+      dataTarget = target;
+      return changed;
+
+    } catch (IOException e) {
+      // a failed reload does not update any state, ensuring the next reload retries all files
+      log.log(SEVERE, e, () -> format("Could not read configuration from %s", location));
+    }
+
+    return Set.of();
+  }
+
+  /**
+   * Computes the changed keys and, if there are any, atomically replaces the store.
+   *
+   * @return the {@link Set} of new, updated, and deleted keys
+   */
+  private Set<String> publish(Set<String> existing, Map<String, String> updated) {
+    Map<String, String> current = store;
+
+    Set<String> changed = new HashSet<>();
+    for (String key : current.keySet()) {
+      if (!existing.contains(key)) {
+        changed.add(key);
+      }
+    }
+    for (Entry<String, String> entry : updated.entrySet()) {
+      if (!Objects.equals(current.get(entry.getKey()), entry.getValue())) {
+        changed.add(entry.getKey());
+      }
+    }
+
+    if (!changed.isEmpty()) {
+      Map<String, String> next = new HashMap<>(current);
+      next.keySet().retainAll(existing);
+      next.putAll(updated);
+      store = Collections.unmodifiableMap(next);
+    }
+
+    return changed;
+  }
+
+  /** Returns the target of the <code>..data</code> symlink, or null if one does not exist. */
+  @Nullable
+  private Path readDataTarget() throws IOException {
+    Path link = location.resolve(DATA_LINK);
+    if (!Files.isSymbolicLink(link)) {
+      return null;
+    }
+    return Files.readSymbolicLink(link);
+  }
+
+  /** Reads the file's contents, removing a single trailing newline. */
+  private static String readValue(Path file) throws IOException {
+    String value = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    if (value.endsWith("\r\n")) {
+      return value.substring(0, value.length() - 2);
+    } else if (value.endsWith("\n")) {
+      return value.substring(0, value.length() - 1);
+    }
+    return value;
+  }
+
+  @Override
+  public Set<String> keys() {
+    return store.keySet();
+  }
+
+  @Override
+  public String id() {
+    return location.toString();
+  }
+}
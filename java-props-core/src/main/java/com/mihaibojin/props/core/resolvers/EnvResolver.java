@@ -16,15 +16,98 @@
 
 package com.mihaibojin.props.core.resolvers;
 
+import static java.util.Objects.isNull;
+
 import com.mihaibojin.props.core.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
-/** Loads values defined in the environment. */
+/**
+ * Loads values defined in the environment.
+ *
+ * <p>By default, every lookup calls {@link System#getenv(String)} and only matches exact variable
+ * names. Alternatively, the resolver can snapshot the environment once and index each variable
+ * under both its exact name and a normalized name (e.g., <code>DB_URL</code> can also be found as
+ * <code>db.url</code>), answering each lookup with a single map hit.
+ */
 public class EnvResolver extends ReadOnlyResolver {
 
+  @Nullable private final Map<String, String> index;
+
+  /** Constructs a resolver which reads variables from the environment on every lookup. */
+  public EnvResolver() {
+    index = null;
+  }
+
+  /**
+   * Constructs a resolver which snapshots the environment once.
+   *
+   * @param normalizeKeys if true, variables can also be found by the names returned by {@link
+   *     #defaultNormalizer(String)}
+   */
+  public EnvResolver(boolean normalizeKeys) {
+    this(normalizeKeys ? EnvResolver::defaultNormalizer : Function.identity());
+  }
+
+  /**
+   * Constructs a resolver which snapshots the environment and additionally indexes each variable
+   * under the name returned by the specified <code>normalizer</code>.
+   */
+  public EnvResolver(Function<String, String> normalizer) {
+    this(System.getenv(), normalizer);
+  }
+
+  /** Indexes the specified variables; allows tests to replace the environment. */
+  EnvResolver(Map<String, String> env, Function<String, String> normalizer) {
+    index = buildIndex(env, normalizer);
+  }
+
+  /**
+   * Lower-cases variable names and replaces all underscores with dots, e.g.: <code>DB_URL</code>
+   * becomes <code>db.url</code>.
+   */
+  public static String defaultNormalizer(String name) {
+    return name.toLowerCase(Locale.ROOT).replace('_', '.');
+  }
+
+  /**
+   * Creates a lookup index containing all variables under their normalized names, as well as their
+   * exact names.
+   *
+   * <p>Exact names always take precedence over normalized ones; if multiple variables normalize to
+   * the same name, the first one in lexicographic order wins.
+   */
+  private static Map<String, String> buildIndex(
+      Map<String, String> env, Function<String, String> normalizer) {
+    Map<String, String> index = new HashMap<>(env.size() * 2);
+    for (Map.Entry<String, String> entry : new TreeMap<>(env).entrySet()) {
+      index.putIfAbsent(normalizer.apply(entry.getKey()), entry.getValue());
+    }
+    index.putAll(env);
+    return index;
+  }
+
   @Override
   @Nullable
   public String get(String key) {
-    return System.getenv(key);
+    Map<String, String> index = this.index;
+    if (isNull(index)) {
+      return System.getenv(key);
+    }
+    return index.get(key);
+  }
+
+  @Override
+  public Set<String> keys() {
+    Map<String, String> index = this.index;
+    if (isNull(index)) {
+      return System.getenv().keySet();
+    }
+    return index.keySet();
   }
 
   @Override
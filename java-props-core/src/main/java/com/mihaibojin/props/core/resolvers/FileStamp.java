@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/** Identifies a specific version of a file, by its modification time and size. */
+class FileStamp {
+  private final FileTime lastModified;
+  private final long size;
+
+  FileStamp(BasicFileAttributes attributes) {
+    this.lastModified = attributes.lastModifiedTime();
+    this.size = attributes.size();
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof FileStamp)) {
+      return false;
+    }
+    FileStamp that = (FileStamp) o;
+    return size == that.size && lastModified.equals(that.lastModified);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lastModified, size);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+/**
+ * Count-Min sketch which estimates how often each key was accessed, in a fixed amount of memory.
+ *
+ * <p>Counters saturate at 15 and are periodically halved, so that the estimates favor recent
+ * accesses over old ones. This class is not thread-safe.
+ */
+class FrequencySketch {
+
+  private static final int MAX_COUNT = 15;
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+
+  private final byte[][] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  /**
+   * Creates a sketch sized for tracking approximately <code>maximumSize</code> keys.
+   *
+   * <p>Each row holds 8 counters per key, keeping the overestimation caused by collisions low even
+   * when many more distinct keys than <code>maximumSize</code> are recorded.
+   */
+  FrequencySketch(int maximumSize) {
+    int size = Math.max(16, Math.min(maximumSize, 1 << 26));
+    int width = (Integer.highestOneBit(size - 1) << 1) * 8;
+    table = new byte[SEEDS.length][width];
+    mask = width - 1;
+    sampleSize = 10 * size;
+  }
+
+  /** Returns the estimated number of recent accesses of the specified key. */
+  int frequency(String key) {
+    int hash = key.hashCode();
+    int frequency = MAX_COUNT;
+    for (int row = 0; row < SEEDS.length; row++) {
+      frequency = Math.min(frequency, table[row][index(hash, row)]);
+    }
+    return frequency;
+  }
+
+  /**
+   * Records an access of the specified key.
+   *
+   * <p>Only the smallest counters are incremented (conservative update), reducing the error caused
+   * by keys which share counters.
+   */
+  void increment(String key) {
+    int frequency = frequency(key);
+    if (frequency == MAX_COUNT) {
+      return;
+    }
+
+    int hash = key.hashCode();
+    for (int row = 0; row < SEEDS.length; row++) {
+      int index = index(hash, row);
+      if (table[row][index] == frequency) {
+        table[row][index]++;
+      }
+    }
+
+    if (++additions >= sampleSize) {
+      reset();
+    }
+  }
+
+  /** Halves all counters, aging the recorded accesses. */
+  private void reset() {
+    for (byte[] row : table) {
+      for (int i = 0; i < row.length; i++) {
+        row[i] >>= 1;
+      }
+    }
+    additions /= 2;
+  }
+
+  private int index(int hash, int row) {
+    long h = (hash + SEEDS[row]) * SEEDS[row];
+    h += h >>> 32;
+    return (int) h & mask;
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.SEVERE;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Loads and merges all property files matching a glob pattern, e.g.: <code>
+ * /etc/app/conf.d/*.properties</code>.
+ *
+ * <p>Files are merged in lexicographic order of their paths; if multiple files define the same
+ * key, the last one wins (e.g., <code>20-overrides.properties</code> takes precedence over <code>
+ * 10-defaults.properties</code>).
+ *
+ * <p>Each file's parsed contents are kept separately. On reload, only files whose modification
+ * time or size changed are parsed again, and only the keys they contribute are recomputed and
+ * updated in place. Files are parsed on the reloading thread.
+ */
+public class GlobPropertyFileResolver implements Resolver {
+
+  private static final Logger log = Logger.getLogger(GlobPropertyFileResolver.class.getName());
+  private static final String GLOB_CHARS = "*?[{";
+
+  private final String glob;
+  private final Path baseDir;
+  private final int maxDepth;
+  private final PathMatcher matcher;
+  private final boolean isReloadable;
+  private final TreeMap<Path, ParsedFile> files = new TreeMap<>();
+  private final Map<String, String> store = new ConcurrentHashMap<>();
+
+  /** Constructs a {@link Resolver} which should only read the matching files once. */
+  public GlobPropertyFileResolver(String glob) {
+    this(glob, false);
+  }
+
+  public GlobPropertyFileResolver(String glob, boolean isReloadable) {
+    this.glob = glob;
+    this.isReloadable = isReloadable;
+
+    // only walk the part of the file tree which can contain matches
+    int firstGlobChar = indexOfGlobChar(glob);
+    int baseEnd = glob.lastIndexOf('/', firstGlobChar);
+    String base = baseEnd > 0 ? glob.substring(0, baseEnd) : baseEnd == 0 ? "/" : ".";
+    String remainder = glob.substring(baseEnd + 1);
+
+    baseDir = Paths.get(base);
+    maxDepth =
+        remainder.contains("**")
+            ? Integer.MAX_VALUE
+            : (int) remainder.chars().filter(c -> c == '/').count() + 1;
+    matcher = FileSystems.getDefault().getPathMatcher("glob:" + remainder);
+  }
+
+  @Override
+  public boolean isReloadable() {
+    return isReloadable;
+  }
+
+  @Override
+  @Nullable
+  public String get(String key) {
+    return store.get(key);
+  }
+
+  @Override
+  public synchronized Set<String> reload() {
+    if (!Files.isDirectory(baseDir)) {
+      if (log.isLoggable(FINE)) {
+        log.fine(
+            () ->
+                format(
+                    "Skipping %s; directory not found at %s", getClass().getSimpleName(), baseDir));
+      }
+      return Set.of();
+    }
+
+    try {
+      Map<Path, FileStamp> matches = findMatchingFiles();
+
+      // determine which files were removed, added, or modified
+      Set<Path> removed = new HashSet<>(files.keySet());
+      removed.removeAll(matches.keySet());
+      List<Path> toParse = new ArrayList<>();
+      for (Entry<Path, FileStamp> match : matches.entrySet()) {
+        ParsedFile existing = files.get(match.getKey());
+        if (isNull(existing) || !existing.stamp.equals(match.getValue())) {
+          toParse.add(match.getKey());
+        }
+      }
+
+      if (removed.isEmpty() && toParse.isEmpty()) {
+        return Set.of();
+      }
+
+      Map<Path, ParsedFile> parsed = parseAll(toParse, matches);
+
+      // collect all keys contributed by the affected files, before and after the change
+      Set<String> affectedKeys = new HashSet<>();
+      for (Path path : removed) {
+        affectedKeys.addAll(files.remove(path).values.keySet());
+      }
+      for (Entry<Path, ParsedFile> entry : parsed.entrySet()) {
+        ParsedFile previous = files.put(entry.getKey(), entry.getValue());
+        if (!isNull(previous)) {
+          affectedKeys.addAll(previous.values.keySet());
+        }
+        affectedKeys.addAll(entry.getValue().values.keySet());
+      }
+
+      return publish(affectedKeys);
+
+    } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+      // a failed reload does not update any state, ensuring the next reload retries all files
+      log.log(SEVERE, e, () -> format("Could not read configuration from %s", glob));
+    }
+
+    return Set.of();
+  }
+
+  /** Returns all regular files matching the glob, along with their current stamps. */
+  private Map<Path, FileStamp> findMatchingFiles() throws IOException {
+    Map<Path, FileStamp> matches = new HashMap<>();
+    try (Stream<Path> paths = Files.walk(baseDir, maxDepth)) {
+      for (Path path : (Iterable<Path>) paths::iterator) {
+        if (!matcher.matches(baseDir.relativize(path))) {
+          continue;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        if (attributes.isRegularFile()) {
+          matches.put(path, new FileStamp(attributes));
+        }
+      }
+    }
+    return matches;
+  }
+
+  /** Parses the specified files. */
+  private static Map<Path, ParsedFile> parseAll(List<Path> paths, Map<Path, FileStamp> stamps) {
+    Map<Path, ParsedFile> parsed = new HashMap<>();
+    for (Path path : paths) {
+      parsed.put(path, new ParsedFile(stamps.get(path), parse(path)));
+    }
+    return parsed;
+  }
+
+  /** Parses a single property file. */
+  private static Map<String, String> parse(Path path) {
+    try (InputStream stream = Files.newInputStream(path)) {
+      return ResolverUtils.loadPropertiesFromStream(stream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Recomputes the effective value of each affected key and updates it in the store, leaving all
+   * other keys untouched.
+   *
+   * @return the {@link Set} of new, updated, and deleted keys
+   */
+  private Set<String> publish(Set<String> affectedKeys) {
+    Set<String> changed = new HashSet<>();
+    for (String key : affectedKeys) {
+      String value = resolveFromFiles(key);
+      if (Objects.equals(store.get(key), value)) {
+        continue;
+      }
+
+      changed.add(key);
+      if (isNull(value)) {
+        store.remove(key);
+      } else {
+        store.put(key, value);
+      }
+    }
+    return changed;
+  }
+
+  /** Returns the value defined by the last file (in merge order) which contains the key. */
+  @Nullable
+  private String resolveFromFiles(String key) {
+    for (ParsedFile file : files.descendingMap().values()) {
+      String value = file.values.get(key);
+      if (!isNull(value)) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  /** Returns the position of the first glob special character, or the length of the input. */
+  private static int indexOfGlobChar(String glob) {
+    for (int i = 0; i < glob.length(); i++) {
+      if (GLOB_CHARS.indexOf(glob.charAt(i)) >= 0) {
+        return i;
+      }
+    }
+    return glob.length();
+  }
+
+  @Override
+  public Set<String> keys() {
+    return Collections.unmodifiableSet(store.keySet());
+  }
+
+  @Override
+  public String id() {
+    return glob;
+  }
+
+  /** Holds the parsed contents of a single file. */
+  private static class ParsedFile {
+    private final FileStamp stamp;
+    private final Map<String, String> values;
+
+    private ParsedFile(FileStamp stamp, Map<String, String> values) {
+      this.stamp = stamp;
+      this.values = values;
+    }
+  }
+}
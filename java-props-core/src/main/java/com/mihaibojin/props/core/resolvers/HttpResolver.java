@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.logging.Level.FINE;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Loads properties from a remote HTTP(S) endpoint, which serves either a JAVA properties file or a
+ * JSON document.
+ *
+ * <p>JSON documents are detected by their <code>Content-Type</code> and are flattened into dotted
+ * keys (see {@link JsonFileResolver}); any other content is parsed as a properties file.
+ *
+ * <p>Reloads use conditional requests (<code>If-None-Match</code> and <code>If-Modified-Since
+ * </code>), so an unchanged document results in a <code>304 Not Modified</code> response, which is
+ * not parsed. Responses may be gzip-compressed, and connections are reused between reloads.
+ */
+public class HttpResolver implements Resolver {
+
+  private static final Logger log = Logger.getLogger(HttpResolver.class.getName());
+
+  private final Map<String, String> store = new HashMap<>();
+  private final URI uri;
+  private final Duration timeout;
+  private final boolean isReloadable;
+  private final HttpClient client;
+  @Nullable private String etag;
+  @Nullable private String lastModified;
+
+  /** Constructs a {@link Resolver} which should only fetch the document once. */
+  public HttpResolver(URI uri) {
+    this(uri, false);
+  }
+
+  public HttpResolver(URI uri, boolean isReloadable) {
+    this(uri, isReloadable, Duration.ofSeconds(10));
+  }
+
+  /**
+   * Constructs a {@link Resolver} which fetches the specified document.
+   *
+   * @param timeout the maximum time allowed for connecting and for each request
+   */
+  public HttpResolver(URI uri, boolean isReloadable, Duration timeout) {
+    this.uri = uri;
+    this.isReloadable = isReloadable;
+    this.timeout = timeout;
+    this.client =
+        HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+  }
+
+  @Override
+  public boolean isReloadable() {
+    return isReloadable;
+  }
+
+  @Override
+  @Nullable
+  public String get(String key) {
+    return store.get(key);
+  }
+
+  /**
+   * Fetches the document and merges its properties into the store.
+   *
+   * <p>Failures are thrown, and not only logged, so that the registry can count them towards
+   * opening this resolver's circuit breaker; the previously loaded values are kept.
+   *
+   * @throws UncheckedIOException if the document could not be retrieved or read
+   * @throws IllegalStateException if the endpoint does not respond with <code>200 OK</code> or
+   *     <code>304 Not Modified</code>, or if the request was interrupted
+   */
+  @Override
+  public synchronized Set<String> reload() {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(uri).timeout(timeout).header("Accept-Encoding", "gzip").GET();
+    if (!isNull(etag)) {
+      request.header("If-None-Match", etag);
+    }
+    if (!isNull(lastModified)) {
+      request.header("If-Modified-Since", lastModified);
+    }
+
+    try {
+      HttpResponse<InputStream> response =
+          client.send(request.build(), BodyHandlers.ofInputStream());
+      try (InputStream body = response.body()) {
+        if (response.statusCode() == 304) {
+          if (log.isLoggable(FINE)) {
+            log.fine(() -> format("%s was not modified", uri));
+          }
+          return Set.of();
+        }
+
+        if (response.statusCode() != 200) {
+          throw new IllegalStateException(
+              format("Could not retrieve %s; status code %d", uri, response.statusCode()));
+        }
+
+        Set<String> updated = ResolverUtils.mergeMapsInPlace(store, parse(response, body));
+        etag = response.headers().firstValue("ETag").orElse(null);
+        lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        return updated;
+      }
+
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Could not read configuration from %s", uri), e);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+          format("Interrupted while reading configuration from %s", uri), e);
+    }
+  }
+
+  /** Decompresses the response, if required, and parses it based on its content type. */
+  private static Map<String, String> parse(HttpResponse<?> response, InputStream body)
+      throws IOException {
+    InputStream stream = body;
+    String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+    if (encoding.equalsIgnoreCase("gzip")) {
+      stream = new GZIPInputStream(body);
+    }
+
+    String contentType =
+        response.headers().firstValue("Content-Type").orElse("").toLowerCase(Locale.ROOT);
+    if (contentType.contains("json")) {
+      try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+        return JsonFlattener.flatten(reader);
+      }
+    }
+
+    return ResolverUtils.loadPropertiesFromStream(stream);
+  }
+
+  @Override
+  public Set<String> keys() {
+    return Collections.unmodifiableSet(store.keySet());
+  }
+
+  @Override
+  public String id() {
+    return uri.toString();
+  }
+}
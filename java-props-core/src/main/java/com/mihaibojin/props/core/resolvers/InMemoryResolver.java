@@ -20,19 +20,37 @@ import com.mihaibojin.props.core.annotations.Nullable;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
 
-/** Useful for tests, when the implementation requires overriding values. */
+/**
+ * Useful for tests, when the implementation requires overriding values.
+ *
+ * <p>Changed keys are pushed to any subscribers of {@link #changes()}, and are also always
+ * returned by the next {@link #reload()}, regardless of whether anything subscribed.
+ */
 public class InMemoryResolver implements Resolver {
 
   private final ConcurrentHashMap<String, String> store = new ConcurrentHashMap<>();
   private final Set<String> updatedKeys = new HashSet<>();
+  private final SubmissionPublisher<Set<String>> publisher = new SubmissionPublisher<>();
+  private final AtomicLong version = new AtomicLong();
 
   /** Stores the specified (key, value) pair in memory. */
   public void set(String key, String value) {
     store.put(key, value);
 
+    // record the key for the next reload; the version is only changed once the key was recorded,
+    // so that a reload which observes the new version also returns the key
     synchronized (this) {
       updatedKeys.add(key);
+      version.incrementAndGet();
+    }
+
+    // and notify any subscribers immediately
+    if (publisher.hasSubscribers()) {
+      publisher.submit(Set.of(key));
     }
   }
 
@@ -47,6 +65,11 @@ public class InMemoryResolver implements Resolver {
     return true;
   }
 
+  @Override
+  public long version() {
+    return version.get();
+  }
+
   @Override
   public Set<String> reload() {
     synchronized (this) {
@@ -56,6 +79,11 @@ public class InMemoryResolver implements Resolver {
     }
   }
 
+  @Override
+  public Flow.Publisher<Set<String>> changes() {
+    return publisher;
+  }
+
   @Override
   public String id() {
     return "MEMORY";
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mihaibojin.props.core.resolvers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks the keys, and key prefixes, which are of interest to a {@link
+ * com.mihaibojin.props.core.Props} registry.
+ *
+ * <p>Resolvers which support it (see {@link Resolver#useInterests(InterestRegistry)}) can use the
+ * registry to only load matching keys, keeping their memory usage proportional to the keys in use,
+ * rather than to the size of their source.
+ */
+public class InterestRegistry {
+
+  private final Set<String> keys = ConcurrentHashMap.newKeySet();
+  private final List<String> prefixes = new CopyOnWriteArrayList<>();
+
+  /**
+   * Registers a key of interest.
+   *
+   * @return true if the key was not already of interest
+   */
+  public boolean addKey(String key) {
+    return !matchesPrefix(key) && keys.add(key);
+  }
+
+  /**
+   * Registers a prefix; all keys starting with it are of interest.
+   *
+   * @return true if the prefix was not already of interest
+   */
+  public boolean addPrefix(String prefix) {
+    if (matchesPrefix(prefix)) {
+      return false;
+    }
+    return prefixes.add(prefix);
+  }
+
+  /** Returns true if the specified key is of interest. */
+  public boolean matches(String key) {
+    return keys.contains(key) || matchesPrefix(key);
+  }
+
+  private boolean matchesPrefix(String key) {
+    for (String prefix : prefixes) {
+      if (key.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static java.lang.String.format;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.SEVERE;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Loads properties from a JSON file, flattening nested objects into dotted keys.
+ *
+ * <p>The file is read with a streaming tokenizer, which does not build an object tree; memory usage
+ * is proportional to the resulting keys and values. Arrays of scalars are joined with commas, to
+ * allow them to be read with the list converters.
+ *
+ * <p>On reload, the file is only parsed again if its modification time or size changed.
+ */
+public class JsonFileResolver implements Resolver {
+
+  private static final Logger log = Logger.getLogger(JsonFileResolver.class.getName());
+
+  // reloads are serialized, while lookups can proceed concurrently
+  private final Map<String, String> store = new ConcurrentHashMap<>();
+  private final Path location;
+  private final boolean isReloadable;
+  @Nullable private FileStamp stamp;
+
+  /** Constructs a {@link Resolver} which should only read the JSON file once. */
+  public JsonFileResolver(Path location) {
+    this(location, false);
+  }
+
+  public JsonFileResolver(Path location, boolean isReloadable) {
+    this.location = location;
+    this.isReloadable = isReloadable;
+  }
+
+  @Override
+  public boolean isReloadable() {
+    return isReloadable;
+  }
+
+  @Override
+  @Nullable
+  public String get(String key) {
+    return store.get(key);
+  }
+
+  @Override
+  public synchronized Set<String> reload() {
+    if (!Files.exists(location)) {
+      if (log.isLoggable(FINE)) {
+        log.fine(
+            () ->
+                format("Skipping %s; file not found at %s", getClass().getSimpleName(), location));
+      }
+      return Set.of();
+    }
+
+    try {
+      // skip parsing if the file did not change since it was last read
+      FileStamp current =
+          new FileStamp(Files.readAttributes(location, BasicFileAttributes.class));
+      if (current.equals(stamp)) {
+        return Set.of();
+      }
+
+      try (Reader reader = Files.newBufferedReader(location, StandardCharsets.UTF_8)) {
+        Set<String> updated = ResolverUtils.mergeMapsInPlace(store, JsonFlattener.flatten(reader));
+        stamp = current;
+        return updated;
+      }
+
+    } catch (IOException | IllegalArgumentException e) {
+      log.log(SEVERE, e, () -> format("Could not read configuration from %s", location));
+    }
+
+    return Set.of();
+  }
+
+  @Override
+  public Set<String> keys() {
+    return Collections.unmodifiableSet(store.keySet());
+  }
+
+  @Override
+  public String id() {
+    return location.toString();
+  }
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming JSON tokenizer which flattens a JSON document into a map of dotted keys, without
+ * building an intermediary object tree.
+ *
+ * <p>Nested objects are flattened into dotted keys (<code>{"a":{"b":1}}</code> becomes <code>a.b=1
+ * </code>). Arrays of scalars are joined with commas (<code>{"a":[1,2]}</code> becomes <code>a=1,2
+ * </code>), allowing them to be read with the list converters; objects and arrays nested inside
+ * arrays are flattened using their index (<code>{"a":[{"b":1}]}</code> becomes <code>a.0.b=1
+ * </code>). Null values and empty arrays do not produce a key.
+ */
+class JsonFlattener {
+
+  private static final int EOF = -1;
+
+  private final Reader reader;
+  private final char[] buffer = new char[8192];
+  private int position;
+  private int limit;
+  private long offset;
+
+  private final Map<String, String> output = new HashMap<>();
+  private final StringBuilder path = new StringBuilder();
+  private final StringBuilder scratch = new StringBuilder();
+
+  private JsonFlattener(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Reads a JSON object from the specified {@link Reader} and returns all of its flattened values.
+   *
+   * @throws IllegalArgumentException if the input is not a valid JSON object
+   * @throws IOException if the input cannot be read
+   */
+  static Map<String, String> flatten(Reader reader) throws IOException {
+    JsonFlattener flattener = new JsonFlattener(reader);
+    flattener.skipWhitespace();
+    if (flattener.peek() != '{') {
+      throw flattener.error("Expected a JSON object");
+    }
+
+    flattener.readObject();
+    flattener.skipWhitespace();
+    if (flattener.peek() != EOF) {
+      throw flattener.error("Unexpected content after the JSON object");
+    }
+    return flattener.output;
+  }
+
+  /** Reads the value at the current position and stores it under the current path. */
+  private void readValue() throws IOException {
+    skipWhitespace();
+    int c = peek();
+    if (c == '{') {
+      readObject();
+    } else if (c == '[') {
+      readArray();
+    } else {
+      scratch.setLength(0);
+      if (readScalar(scratch)) {
+        output.put(path.toString(), scratch.toString());
+      }
+    }
+  }
+
+  private void readObject() throws IOException {
+    expect('{');
+    skipWhitespace();
+    if (peek() == '}') {
+      read();
+      return;
+    }
+
+    int parentLength = path.length();
+    while (true) {
+      skipWhitespace();
+      if (parentLength > 0) {
+        path.append('.');
+      }
+      // the key is appended directly to the current path, avoiding an intermediary string
+      readString(path);
+      skipWhitespace();
+      expect(':');
+      readValue();
+      path.setLength(parentLength);
+
+      skipWhitespace();
+      int c = read();
+      if (c == '}') {
+        return;
+      } else if (c != ',') {
+        throw error("Expected ',' or '}'");
+      }
+    }
+  }
+
+  private void readArray() throws IOException {
+    expect('[');
+    skipWhitespace();
+    if (peek() == ']') {
+      read();
+      return;
+    }
+
+    // scalars are appended directly to the joined value, avoiding intermediary strings
+    StringBuilder joined = new StringBuilder();
+    int parentLength = path.length();
+    for (int index = 0; ; index++) {
+      skipWhitespace();
+      int c = peek();
+      if (c == '{' || c == '[') {
+        // containers are flattened using their index
+        if (parentLength > 0) {
+          path.append('.');
+        }
+        path.append(index);
+        readValue();
+        path.setLength(parentLength);
+      } else {
+        int previousLength = joined.length();
+        if (previousLength > 0) {
+          joined.append(',');
+        }
+        if (!readScalar(joined)) {
+          // discard nulls
+          joined.setLength(previousLength);
+        }
+      }
+
+      skipWhitespace();
+      c = read();
+      if (c == ']') {
+        break;
+      } else if (c != ',') {
+        throw error("Expected ',' or ']'");
+      }
+    }
+
+    if (joined.length() > 0) {
+      output.put(path.toString(), joined.toString());
+    }
+  }
+
+  /**
+   * Reads a string, number, or literal and appends it to the specified builder.
+   *
+   * @return false if the value was a JSON null, in which case nothing is appended
+   */
+  private boolean readScalar(StringBuilder into) throws IOException {
+    if (peek() == '"') {
+      readString(into);
+      return true;
+    }
+
+    int start = into.length();
+    while (true) {
+      int c = peek();
+      if (c == EOF || isDelimiter(c)) {
+        break;
+      }
+      into.append((char) read());
+    }
+
+    if (isLiteral(into, start, "null")) {
+      into.setLength(start);
+      return false;
+    } else if (isLiteral(into, start, "true")
+        || isLiteral(into, start, "false")
+        || isNumber(into, start)) {
+      return true;
+    }
+    throw error(format("Unexpected value '%s'", into.substring(start)));
+  }
+
+  /** Returns true if the builder's contents, starting at <code>start</code>, equal the literal. */
+  private static boolean isLiteral(StringBuilder value, int start, String literal) {
+    if (value.length() - start != literal.length()) {
+      return false;
+    }
+    for (int i = 0; i < literal.length(); i++) {
+      if (value.charAt(start + i) != literal.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Reads a quoted string, unescaping it into the specified builder. */
+  private void readString(StringBuilder into) throws IOException {
+    expect('"');
+    while (true) {
+      // copy runs of unescaped characters in bulk
+      int start = position;
+      while (position < limit && buffer[position] != '"' && buffer[position] != '\\') {
+        position++;
+      }
+      into.append(buffer, start, position - start);
+
+      int c = read();
+      if (c == '"') {
+        return;
+      } else if (c == EOF) {
+        throw error("Unterminated string");
+      } else if (c != '\\') {
+        into.append((char) c);
+        continue;
+      }
+
+      c = read();
+      switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+          into.append((char) c);
+          break;
+        case 'b':
+          into.append('\b');
+          break;
+        case 'f':
+          into.append('\f');
+          break;
+        case 'n':
+          into.append('\n');
+          break;
+        case 'r':
+          into.append('\r');
+          break;
+        case 't':
+          into.append('\t');
+          break;
+        case 'u':
+          into.append(readUnicodeEscape());
+          break;
+        default:
+          throw error("Invalid escape sequence");
+      }
+    }
+  }
+
+  /** Reads the four hex digits of a unicode escape sequence. */
+  private char readUnicodeEscape() throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = Character.digit(read(), 16);
+      if (digit < 0) {
+        throw error("Invalid unicode escape sequence");
+      }
+      value = (value << 4) | digit;
+    }
+    return (char) value;
+  }
+
+  /** Validates the JSON number literal found in the builder, starting at <code>start</code>. */
+  private static boolean isNumber(StringBuilder literal, int start) {
+    int i = start;
+    int length = literal.length();
+    if (i < length && literal.charAt(i) == '-') {
+      i++;
+    }
+
+    int digits = 0;
+    while (i < length && Character.isDigit(literal.charAt(i))) {
+      i++;
+      digits++;
+    }
+    if (digits == 0) {
+      return false;
+    }
+
+    if (i < length && literal.charAt(i) == '.') {
+      i++;
+      digits = 0;
+      while (i < length && Character.isDigit(literal.charAt(i))) {
+        i++;
+        digits++;
+      }
+      if (digits == 0) {
+        return false;
+      }
+    }
+
+    if (i < length && (literal.charAt(i) == 'e' || literal.charAt(i) == 'E')) {
+      i++;
+      if (i < length && (literal.charAt(i) == '+' || literal.charAt(i) == '-')) {
+        i++;
+      }
+      digits = 0;
+      while (i < length && Character.isDigit(literal.charAt(i))) {
+        i++;
+        digits++;
+      }
+      if (digits == 0) {
+        return false;
+      }
+    }
+
+    return i == length;
+  }
+
+  private static boolean isDelimiter(int c) {
+    return c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+  }
+
+  private void skipWhitespace() throws IOException {
+    while (true) {
+      int c = peek();
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return;
+      }
+      read();
+    }
+  }
+
+  private void expect(char expected) throws IOException {
+    if (read() != expected) {
+      throw error(format("Expected '%s'", expected));
+    }
+  }
+
+  /** Returns the next character without consuming it, or {@link #EOF}. */
+  private int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return EOF;
+    }
+    return buffer[position];
+  }
+
+  /** Consumes and returns the next character, or {@link #EOF}. */
+  private int read() throws IOException {
+    if (position == limit && !fill()) {
+      return EOF;
+    }
+    return buffer[position++];
+  }
+
+  /** Reads the next chunk of input into the buffer. */
+  private boolean fill() throws IOException {
+    offset += limit;
+    position = 0;
+    limit = 0;
+
+    int read = reader.read(buffer, 0, buffer.length);
+    if (read <= 0) {
+      return false;
+    }
+    limit = read;
+    return true;
+  }
+
+  private IllegalArgumentException error(String message) {
+    return new IllegalArgumentException(
+        format("%s at position %d in JSON input", message, offset + position));
+  }
+}
@@ -17,6 +17,7 @@
 package com.mihaibojin.props.core.resolvers;
 
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.SEVERE;
 
@@ -25,6 +26,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +39,8 @@ public class PropertyFileResolver implements Resolver {
   private final Map<String, String> store = new HashMap<>();
   private final Path location;
   private final boolean isReloadable;
+  private final boolean onlyInterestingKeys;
+  @Nullable private InterestRegistry interests;
 
   /** Constructs a {@link Resolver} which should only read the properties file once. */
   public PropertyFileResolver(Path location) {
@@ -44,8 +48,30 @@ public class PropertyFileResolver implements Resolver {
   }
 
   public PropertyFileResolver(Path location, boolean isReloadable) {
+    this(location, isReloadable, false);
+  }
+
+  /**
+   * Constructs a {@link Resolver} which reads the specified properties file.
+   *
+   * @param onlyInterestingKeys if true, only keys which are of interest to the registry (see {@link
+   *     InterestRegistry}) are kept in memory; the file is read again whenever new keys become of
+   *     interest, so this mode is best suited for large files, of which few keys are used
+   */
+  public PropertyFileResolver(Path location, boolean isReloadable, boolean onlyInterestingKeys) {
     this.location = location;
     this.isReloadable = isReloadable;
+    this.onlyInterestingKeys = onlyInterestingKeys;
+  }
+
+  @Override
+  public synchronized boolean useInterests(InterestRegistry interests) {
+    if (!onlyInterestingKeys) {
+      return false;
+    }
+
+    this.interests = interests;
+    return true;
   }
 
   @Override
@@ -60,7 +86,7 @@ public class PropertyFileResolver implements Resolver {
   }
 
   @Override
-  public Set<String> reload() {
+  public synchronized Set<String> reload() {
     if (!Files.exists(location)) {
       if (log.isLoggable(FINE)) {
         log.fine(
@@ -71,7 +97,12 @@ public class PropertyFileResolver implements Resolver {
     }
 
     try (InputStream stream = Files.newInputStream(location)) {
-      return ResolverUtils.mergeMapsInPlace(store, ResolverUtils.loadPropertiesFromStream(stream));
+      InterestRegistry interests = this.interests;
+      Map<String, String> values =
+          isNull(interests)
+              ? ResolverUtils.loadPropertiesFromStream(stream)
+              : ResolverUtils.loadPropertiesFromStream(stream, interests::matches);
+      return ResolverUtils.mergeMapsInPlace(store, values);
 
     } catch (IOException | IllegalArgumentException e) {
       log.log(SEVERE, e, () -> format("Could not read configuration from %s", location));
@@ -80,6 +111,11 @@ public class PropertyFileResolver implements Resolver {
     return Set.of();
   }
 
+  @Override
+  public Set<String> keys() {
+    return Collections.unmodifiableSet(store.keySet());
+  }
+
   @Override
   public String id() {
     return location.toString();
@@ -16,11 +16,20 @@
 
 package com.mihaibojin.props.core.resolvers;
 
+import static java.util.Objects.isNull;
+
 import com.mihaibojin.props.core.annotations.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Flow;
 
 public interface Resolver {
 
+  /** Returned by {@link #version()} if the implementation does not track its changes. */
+  long UNVERSIONED = -1;
+
   /** Returns a string identifying the resolver. */
   String id();
 
@@ -30,6 +39,24 @@ public interface Resolver {
   @Nullable
   String get(String key);
 
+  /**
+   * Returns the values of all the specified keys; keys which are not defined are not included in
+   * the returned {@link Map}.
+   *
+   * <p>The default implementation calls {@link #get(String)} for each key. Implementations backed
+   * by remote stores should override this method and retrieve all keys in a single request.
+   */
+  default Map<String, String> getAll(Collection<String> keys) {
+    Map<String, String> values = new HashMap<>();
+    for (String key : keys) {
+      String value = get(key);
+      if (!isNull(value)) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+
   /**
    * Reloads all properties managed by the implementing Resolver.
    *
@@ -37,6 +64,35 @@ public interface Resolver {
    */
   Set<String> reload();
 
+  /**
+   * Returns all the keys defined by this resolver, or <code>null</code> if they cannot be
+   * enumerated.
+   *
+   * <p>{@link com.mihaibojin.props.core.Props} calls this method after each reload (or pushed
+   * change) and builds a membership filter from the result, skipping lookups for keys which the
+   * resolver does not define. Implementations whose keys can change at any other time must return
+   * <code>null</code>.
+   */
+  @Nullable
+  default Set<String> keys() {
+    return null;
+  }
+
+  /**
+   * Provides the keys which are of interest to the {@link com.mihaibojin.props.core.Props} registry
+   * using this resolver; called once, before the initial load.
+   *
+   * <p>Implementations may use the registry to only load keys which are of interest, in which case
+   * they must return <code>true</code>. Keys become of interest when props are bound for them, or
+   * if they match a prefix declared when the registry was built; the registry then reloads these
+   * resolvers, on its refresh thread, before resolving the newly bound props.
+   *
+   * @return true if this resolver only loads keys which are of interest
+   */
+  default boolean useInterests(InterestRegistry interests) {
+    return false;
+  }
+
   /**
    * Returns <code>true</code> if the implementation can reload its properties, or <code>false
    * </code> if it cannot.
@@ -44,4 +100,29 @@ public interface Resolver {
   default boolean isReloadable() {
     return true;
   }
+
+  /**
+   * Returns a stamp which changes every time this resolver's contents change, or {@link
+   * #UNVERSIONED} if the implementation cannot determine this cheaply.
+   *
+   * <p>Resolvers whose contents are updated outside of {@link #reload()} (e.g., by a background
+   * watcher) should implement this method, since {@link com.mihaibojin.props.core.Props} skips
+   * reloading versioned resolvers whose version did not change since their last reload.
+   */
+  default long version() {
+    return UNVERSIONED;
+  }
+
+  /**
+   * Returns a {@link Flow.Publisher} which emits the keys updated by this resolver, as soon as they
+   * change, or <code>null</code> if the implementation can only be polled via {@link #reload()}.
+   *
+   * <p>When a publisher is returned, {@link com.mihaibojin.props.core.Props} subscribes to it and
+   * stops periodically calling {@link #reload()}; the method is still called for the initial load.
+   * If the publisher completes or fails, polling resumes.
+   */
+  @Nullable
+  default Flow.Publisher<Set<String>> changes() {
+    return null;
+  }
 }
@@ -24,6 +24,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URI;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +34,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -60,19 +62,36 @@ public class ResolverUtils {
           "loadPropertiesFromStream expects a non-null input stream");
     }
 
+    return loadPropertiesFromStream(stream, key -> true);
+  }
+
+  /**
+   * Loads the properties defined in the specified stream, only retaining keys which match the
+   * specified filter.
+   */
+  static Map<String, String> loadPropertiesFromStream(InputStream stream, Predicate<String> filter)
+      throws IOException {
     Properties properties = new Properties();
     properties.load(stream);
-    return readPropertiesToMap(properties);
+    return readPropertiesToMap(properties, filter);
   }
 
   /**
    * Iterates over all the input {@link Properties} and returns a {@link Map} containing all
    * key->value mappings.
    */
-  private static Map<String, String> readPropertiesToMap(Properties properties) {
+  static Map<String, String> readPropertiesToMap(Properties properties) {
+    return readPropertiesToMap(properties, key -> true);
+  }
+
+  /** Returns a {@link Map} containing all properties whose keys match the specified filter. */
+  private static Map<String, String> readPropertiesToMap(
+      Properties properties, Predicate<String> filter) {
     Map<String, String> store = new HashMap<>();
     for (String key : properties.stringPropertyNames()) {
-      store.put(key, properties.getProperty(key));
+      if (filter.test(key)) {
+        store.put(key, properties.getProperty(key));
+      }
     }
     return store;
   }
@@ -151,6 +170,14 @@ public class ResolverUtils {
 
     if (Objects.equals(type, "file")) {
       return new PropertyFileResolver(Paths.get(path), reload);
+    } else if (Objects.equals(type, "dir")) {
+      return new DirectoryResolver(Paths.get(path), reload);
+    } else if (Objects.equals(type, "glob")) {
+      return new GlobPropertyFileResolver(path, reload);
+    } else if (Objects.equals(type, "json")) {
+      return new JsonFileResolver(Paths.get(path), reload);
+    } else if (Objects.equals(type, "http")) {
+      return new HttpResolver(URI.create(path), reload);
     } else if (Objects.equals(type, "classpath")) {
       return new ClasspathPropertyFileResolver(path, reload);
     } else if (Objects.equals(type, "system")) {
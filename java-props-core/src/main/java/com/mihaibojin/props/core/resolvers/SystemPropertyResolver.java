@@ -17,14 +17,88 @@
 package com.mihaibojin.props.core.resolvers;
 
 import com.mihaibojin.props.core.annotations.Nullable;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
 
-/** Loads system properties. */
-public class SystemPropertyResolver extends ReadOnlyResolver {
+/**
+ * Loads system properties.
+ *
+ * <p>By default, every lookup reads the current value from {@link System#getProperty(String)}.
+ * If constructed as reloadable, the resolver instead serves lookups from a snapshot of {@link
+ * System#getProperties()}, which is refreshed on every reload; this allows runtime changes (e.g.,
+ * made via {@link System#setProperty(String, String)}) to be propagated to bound props.
+ */
+public class SystemPropertyResolver implements Resolver {
+
+  private final boolean isReloadable;
+  //  deepcode ignore AvoidUsingVolatile: allows publishing all changes at once
+  private volatile Map<String, String> snapshot = Map.of();
+
+  /** Constructs a {@link Resolver} which reads system properties on every lookup. */
+  public SystemPropertyResolver() {
+    this(false);
+  }
+
+  public SystemPropertyResolver(boolean isReloadable) {
+    this.isReloadable = isReloadable;
+  }
 
   @Override
   @Nullable
   public String get(String key) {
-    return System.getProperty(key);
+    if (!isReloadable) {
+      return System.getProperty(key);
+    }
+    return snapshot.get(key);
+  }
+
+  @Override
+  public boolean isReloadable() {
+    return isReloadable;
+  }
+
+  @Override
+  public synchronized Set<String> reload() {
+    if (!isReloadable) {
+      return Set.of();
+    }
+
+    Map<String, String> current = snapshot;
+    Map<String, String> updated = ResolverUtils.readPropertiesToMap(System.getProperties());
+
+    // determine all deleted, new, and updated keys
+    Set<String> changed = new HashSet<>();
+    for (String key : current.keySet()) {
+      if (!updated.containsKey(key)) {
+        changed.add(key);
+      }
+    }
+    for (Entry<String, String> entry : updated.entrySet()) {
+      if (!Objects.equals(current.get(entry.getKey()), entry.getValue())) {
+        changed.add(entry.getKey());
+      }
+    }
+
+    if (!changed.isEmpty()) {
+      snapshot = updated;
+    }
+    return changed;
+  }
+
+  /**
+   * Returns the keys of the current snapshot, if reloadable; otherwise returns <code>null</code>,
+   * since system properties can change at any time.
+   */
+  @Override
+  @Nullable
+  public Set<String> keys() {
+    if (!isReloadable) {
+      return null;
+    }
+    return snapshot.keySet();
   }
 
   @Override
@@ -18,17 +18,43 @@ package com.mihaibojin.props.core;
 
 import static com.mihaibojin.props.core.resolvers.ResolverUtils.readResolverConfig;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.mihaibojin.props.core.annotations.Nullable;
 import com.mihaibojin.props.core.converters.Cast;
 import com.mihaibojin.props.core.converters.Converter;
 import com.mihaibojin.props.core.converters.DurationConverter;
+import com.mihaibojin.props.core.converters.ImmutableConverter;
+import com.mihaibojin.props.core.resolvers.AsyncResolver;
 import com.mihaibojin.props.core.resolvers.ClasspathPropertyFileResolver;
 import com.mihaibojin.props.core.resolvers.EnvResolver;
+import com.mihaibojin.props.core.resolvers.InMemoryResolver;
+import com.mihaibojin.props.core.resolvers.PropertyFileResolver;
+import com.mihaibojin.props.core.resolvers.Resolver;
 import com.mihaibojin.props.core.resolvers.SystemPropertyResolver;
 import com.mihaibojin.props.core.types.AbstractStringProp;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class PropsTest {
 
@@ -175,6 +201,620 @@ public class PropsTest {
     assertThat(allKeys, equalTo("My name is Mihai and my age is 999"));
   }
 
+  @Test
+  void warmStartFromSnapshot(@TempDir Path tempDir) throws IOException, InterruptedException {
+    // ARRANGE
+    Path snapshot = tempDir.resolve("snapshot.properties");
+    Files.writeString(snapshot, "prop.key=stale\n");
+
+    CountDownLatch loaded = new CountDownLatch(1);
+    SlowResolver resolver = new SlowResolver(loaded);
+    resolver.set("prop.key", "fresh");
+
+    Props props =
+        Props.factory()
+            .withResolver(resolver)
+            .refreshInterval(Duration.ofSeconds(30))
+            .snapshotFile(snapshot)
+            .build();
+
+    // ACT
+    Prop<String> prop = props.prop("prop.key").build();
+    String beforeLoad = prop.value();
+    loaded.countDown();
+
+    // ASSERT
+    assertThat(
+        "Expected the snapshot to be served before the initial load",
+        beforeLoad,
+        equalTo("stale"));
+    for (int i = 0; i < 50 && !"fresh".equals(prop.value()); i++) {
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    assertThat(prop.value(), equalTo("fresh"));
+  }
+
+  @Test
+  void pushedChangesUpdatePropsWithoutPolling() throws InterruptedException {
+    // ARRANGE
+    InMemoryResolver resolver = new InMemoryResolver();
+    resolver.set("prop.key", "initial");
+
+    Props props =
+        Props.factory().withResolver(resolver).refreshInterval(Duration.ofHours(1)).build();
+    Prop<String> prop = props.prop("prop.key").build();
+    assertThat(prop.value(), equalTo("initial"));
+
+    // ACT
+    resolver.set("prop.key", "pushed");
+
+    // ASSERT
+    for (int i = 0; i < 50 && !"pushed".equals(prop.value()); i++) {
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    assertThat(
+        "Expected the change to be applied before the next refresh",
+        prop.value(),
+        equalTo("pushed"));
+  }
+
+  @Test
+  void bindAllResolvesValuesInBulk() {
+    // ARRANGE
+    BatchingResolver low = new BatchingResolver("low");
+    low.set("key.a", "low-a");
+    low.set("key.b", "low-b");
+    BatchingResolver high = new BatchingResolver("high");
+    high.set("key.a", "high-a");
+
+    Props props = Props.factory().withResolver(low).withResolver(high).build();
+    TestProp a = new TestProp("key.a");
+    TestProp b = new TestProp("key.b");
+    TestProp c = new TestProp("key.c");
+
+    // ACT
+    props.bindAll(List.of(a, b, c));
+
+    // ASSERT
+    assertThat(a.value(), equalTo("high-a"));
+    assertThat(b.value(), equalTo("low-b"));
+    assertThat(c.value(), equalTo(null));
+    assertThat(high.requests, equalTo(List.of(Set.of("key.a", "key.b", "key.c"))));
+    assertThat(
+        "Expected keys found in a higher priority resolver to not be requested again",
+        low.requests,
+        equalTo(List.of(Set.of("key.b", "key.c"))));
+  }
+
+  @Test
+  void skipReloadingUnchangedVersionedResolvers() throws InterruptedException {
+    // ARRANGE
+    PolledResolver resolver = new PolledResolver();
+    resolver.set("prop.key", "initial");
+
+    Props props =
+        Props.factory().withResolver(resolver).refreshInterval(Duration.ofSeconds(1)).build();
+    Prop<String> prop = props.prop("prop.key").build();
+
+    // ACT
+    TimeUnit.MILLISECONDS.sleep(2500);
+    int unchangedReloads = resolver.reloads.get();
+    resolver.set("prop.key", "updated");
+    for (int i = 0; i < 50 && !"updated".equals(prop.value()); i++) {
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+
+    // ASSERT
+    assertThat("Expected only the initial load", unchangedReloads, equalTo(1));
+    assertThat(prop.value(), equalTo("updated"));
+    assertThat(resolver.reloads.get(), equalTo(2));
+  }
+
+  @Test
+  void slowResolversDoNotBlockRefreshes() throws InterruptedException {
+    // ARRANGE
+    PolledResolver fast = new PolledResolver();
+    fast.set("fast.key", "initial");
+    StallingResolver slow = new StallingResolver();
+
+    Props props =
+        Props.factory()
+            .withResolver(fast)
+            .withResolver(slow)
+            .refreshInterval(Duration.ofMillis(500))
+            .reloadTimeout(Duration.ofMillis(100))
+            .circuitBreaker(1, Duration.ofMinutes(1))
+            .build();
+    Prop<String> fastProp = props.prop("fast.key").build();
+    Prop<String> slowProp = props.prop("slow.key").build();
+
+    // ACT
+    fast.set("fast.key", "updated");
+    for (int i = 0; i < 50 && !"updated".equals(fastProp.value()); i++) {
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    TimeUnit.MILLISECONDS.sleep(1500);
+
+    // ASSERT
+    assertThat(fastProp.value(), equalTo("updated"));
+    assertThat("Expected the last loaded value to be kept", slowProp.value(), equalTo("slow"));
+    assertThat(
+        "Expected the open breaker to skip reloads", slow.reloads.get(), lessThanOrEqualTo(3));
+  }
+
+  @Test
+  void applyReloadsWhichCompleteAfterTheDeadline() throws InterruptedException {
+    // ARRANGE
+    LateResolver resolver = new LateResolver();
+    Props props =
+        Props.factory()
+            .withResolver(resolver)
+            .refreshInterval(Duration.ofMillis(300))
+            .reloadTimeout(Duration.ofMillis(100))
+            .build();
+    Prop<String> prop = props.prop("late.key").build();
+
+    // ACT
+    for (int i = 0; i < 50 && !"updated".equals(prop.value()); i++) {
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+
+    // ASSERT
+    assertThat("Expected the late reload's keys to be applied", prop.value(), equalTo("updated"));
+  }
+
+  /**
+   * Resolver whose second reload ignores cancellation, and updates its value after the deadline.
+   */
+  private static class LateResolver implements Resolver {
+    private final AtomicInteger reloads = new AtomicInteger();
+    private volatile String value = "initial";
+
+    @Override
+    @Nullable
+    public String get(String key) {
+      return "late.key".equals(key) ? value : null;
+    }
+
+    @Override
+    public Set<String> reload() {
+      if (reloads.incrementAndGet() != 2) {
+        return Set.of();
+      }
+
+      long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+      boolean interrupted = false;
+      while (System.nanoTime() < end) {
+        try {
+          TimeUnit.MILLISECONDS.sleep(10);
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+
+      value = "updated";
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      return Set.of("late.key");
+    }
+
+    @Override
+    public String id() {
+      return "late";
+    }
+  }
+
+  /** Resolver which loads its values once, after which all its reloads hang. */
+  private static class StallingResolver implements Resolver {
+    private final AtomicInteger reloads = new AtomicInteger();
+    private final CountDownLatch never = new CountDownLatch(1);
+
+    @Override
+    @Nullable
+    public String get(String key) {
+      return "slow.key".equals(key) ? "slow" : null;
+    }
+
+    @Override
+    public Set<String> reload() {
+      if (reloads.incrementAndGet() > 1) {
+        try {
+          never.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Reload cancelled", e);
+        }
+      }
+      return Set.of("slow.key");
+    }
+
+    @Override
+    public String id() {
+      return "stalling";
+    }
+  }
+
+  @Test
+  void onTheSpotReadsDoNotDecodeUnchangedValues() {
+    // ARRANGE
+    InMemoryResolver resolver = new InMemoryResolver();
+    resolver.set("prop.key", "PT1M");
+    Props props = Props.factory().withResolver(resolver).build();
+
+    AtomicInteger decodes = new AtomicInteger();
+    ImmutableConverter<Duration> converter =
+        value -> {
+          decodes.incrementAndGet();
+          return Duration.parse(value);
+        };
+
+    // ACT
+    Duration first = props.prop("prop.key", converter).value();
+    Duration second = props.prop("prop.key", converter).value();
+
+    // ASSERT
+    assertThat(first, equalTo(Duration.ofMinutes(1)));
+    assertThat(second, equalTo(Duration.ofMinutes(1)));
+    assertThat(decodes.get(), equalTo(1));
+  }
+
+  @Test
+  void onTheSpotReadsDoNotShareMutableValues() {
+    // ARRANGE
+    InMemoryResolver resolver = new InMemoryResolver();
+    resolver.set("prop.key", "1,2,3");
+    Props props = Props.factory().withResolver(resolver).build();
+
+    // ACT
+    int[] first = props.prop("prop.key", Cast.asIntArray()).value();
+    first[0] = 42;
+    int[] second = props.prop("prop.key", Cast.asIntArray()).value();
+
+    // ASSERT
+    assertThat(second, equalTo(new int[] {1, 2, 3}));
+  }
+
+  @Test
+  void onTheSpotReadsShareImmutableLists() {
+    // ARRANGE
+    InMemoryResolver resolver = new InMemoryResolver();
+    resolver.set("prop.key", "1,2,3");
+    Props props = Props.factory().withResolver(resolver).build();
+
+    // ACT
+    List<Long> first = props.prop("prop.key", Cast.asListOfLong()).value();
+    List<Long> second = props.prop("prop.key", Cast.asListOfLong()).value();
+
+    // ASSERT
+    assertThat(second, sameInstance(first));
+    assertThrows(UnsupportedOperationException.class, () -> first.add(4L));
+  }
+
+  @Test
+  void doNotDecodeUnchangedRawValues() throws InterruptedException {
+    // ARRANGE
+    InMemoryResolver resolver =
+        new InMemoryResolver() {
+          @Override
+          public Set<String> reload() {
+            // report the key as changed on every reload
+            return Set.of("prop.key");
+          }
+
+          @Override
+          public long version() {
+            return UNVERSIONED;
+          }
+
+          @Override
+          @Nullable
+          public Flow.Publisher<Set<String>> changes() {
+            return null;
+          }
+        };
+    resolver.set("prop.key", "1,2,3");
+
+    AtomicInteger decodes = new AtomicInteger();
+    Converter<List<Long>> converter =
+        value -> {
+          decodes.incrementAndGet();
+          return Cast.asListOfLong().decode(value);
+        };
+
+    Props props =
+        Props.factory().withResolver(resolver).refreshInterval(Duration.ofMillis(200)).build();
+    Prop<List<Long>> prop = props.prop("prop.key", converter).build();
+
+    // ACT
+    TimeUnit.MILLISECONDS.sleep(700);
+    int unchangedDecodes = decodes.get();
+    resolver.set("prop.key", "4");
+    for (int i = 0; i < 50 && !List.of(4L).equals(prop.value()); i++) {
+      TimeUnit.MILLISECONDS.sleep(50);
+    }
+
+    // ASSERT
+    assertThat("Expected only the initial decode", unchangedDecodes, equalTo(1));
+    assertThat(prop.value(), equalTo(List.of(4L)));
+    assertThat(decodes.get(), equalTo(2));
+  }
+
+  @Test
+  void invalidLazyListsDoNotStopRefreshes() throws InterruptedException {
+    // ARRANGE
+    PolledResolver resolver = new PolledResolver();
+    resolver.set("prop.key", "1,2");
+    Props props =
+        Props.factory().withResolver(resolver).refreshInterval(Duration.ofMillis(200)).build();
+    Prop<List<Long>> prop = props.prop("prop.key", Cast.asLazyListOfLong()).build();
+
+    // ACT
+    resolver.set("prop.key", "1,x");
+    TimeUnit.MILLISECONDS.sleep(500);
+    resolver.set("prop.key", "3,4");
+    for (int i = 0; i < 50 && !List.of(3L, 4L).equals(prop.value()); i++) {
+      TimeUnit.MILLISECONDS.sleep(50);
+    }
+
+    // ASSERT
+    assertThat(prop.value(), equalTo(List.of(3L, 4L)));
+  }
+
+  /** Versioned resolver which does not push its changes and counts its reloads. */
+  private static class PolledResolver extends InMemoryResolver {
+    private final AtomicInteger reloads = new AtomicInteger();
+
+    @Override
+    public Set<String> reload() {
+      reloads.incrementAndGet();
+      return super.reload();
+    }
+
+    @Override
+    @Nullable
+    public Flow.Publisher<Set<String>> changes() {
+      return null;
+    }
+  }
+
+  @Test
+  void skipResolversWhichDoNotDefineKey() {
+    // ARRANGE
+    InMemoryResolver low = new InMemoryResolver();
+    low.set("low.key", "low");
+    EnumerableResolver high = new EnumerableResolver();
+    high.set("high.key", "high");
+
+    Props props = Props.factory().withResolver(low).withResolver(high).build();
+
+    // ACT
+    String lowValue = props.prop("low.key").build().value();
+    String highValue = props.prop("high.key").build().value();
+
+    // ASSERT
+    assertThat(lowValue, equalTo("low"));
+    assertThat(highValue, equalTo("high"));
+    assertThat(
+        "Expected the filter to skip the lookup of 'low.key'",
+        high.lookups,
+        equalTo(List.of("high.key")));
+  }
+
+  @Test
+  void loadOnlyKeysOfInterest(@TempDir Path tempDir) throws IOException {
+    // ARRANGE
+    Path file = tempDir.resolve("shared.properties");
+    Files.writeString(file, "app.key=value\ndb.url=jdbc\ndb.user=admin\nunused.key=unused\n");
+    PropertyFileResolver resolver = new PropertyFileResolver(file, false, true);
+
+    Props props = Props.factory().withResolver(resolver).interestedIn("db.").build();
+
+    // ACT
+    String prefixed = props.prop("db.url").value();
+    String unbound = props.prop("unused.key").value();
+    Prop<String> prop = props.prop("app.key").isRequired(true).build();
+
+    // ASSERT
+    assertThat(prefixed, equalTo("jdbc"));
+    assertThat("Expected on-the-spot reads to not load new keys", unbound, equalTo(null));
+    assertThat(
+        "Expected the bound key to be loaded when binding", prop.value(), equalTo("value"));
+    assertThat(resolver.keys(), equalTo(Set.of("app.key", "db.url", "db.user")));
+  }
+
+  @Test
+  void fallBackWhenAsyncResolversTimeOut() {
+    // ARRANGE
+    InMemoryResolver low = new InMemoryResolver();
+    low.set("prop.key", "low");
+    low.set("other.key", "other");
+    HangingResolver high = new HangingResolver();
+
+    Props props = Props.factory().withResolver(low).withResolver(high).build();
+    TestProp other = new TestProp("other.key");
+
+    // ACT
+    Prop<String> prop = props.prop("prop.key").build();
+    String onTheSpot = props.prop("prop.key").value();
+    props.bindAll(List.of(other));
+
+    // ASSERT
+    assertThat(prop.value(), equalTo("low"));
+    assertThat(onTheSpot, equalTo("low"));
+    assertThat(other.value(), equalTo("other"));
+  }
+
+  @Test
+  void valueAsyncFallsBackWhenDeadlinePasses() throws Exception {
+    // ARRANGE
+    InMemoryResolver low = new InMemoryResolver();
+    low.set("prop.key", "low");
+    HangingResolver high = new HangingResolver();
+
+    Props props = Props.factory().withResolver(low).withResolver(high).build();
+
+    // ACT
+    CompletableFuture<String> found = props.prop("prop.key").valueAsync(Duration.ofMillis(100));
+    CompletableFuture<String> missing =
+        props.prop("missing.key").defaultValue("default").valueAsync(Duration.ofMillis(100));
+
+    // ASSERT
+    assertThat(found.get(5, TimeUnit.SECONDS), equalTo("low"));
+    assertThat(missing.get(5, TimeUnit.SECONDS), equalTo("default"));
+  }
+
+  @Test
+  void valueAsyncDoesNotDecodeOnTimeoutThread() throws Exception {
+    // ARRANGE
+    InMemoryResolver low = new InMemoryResolver();
+    low.set("prop.key", "low");
+    HangingResolver high = new HangingResolver();
+
+    Props props = Props.factory().withResolver(low).withResolver(high).build();
+    CompletableFuture<String> decodedBy = new CompletableFuture<>();
+    Converter<String> converter =
+        value -> {
+          decodedBy.complete(Thread.currentThread().getName());
+          return value;
+        };
+
+    // ACT
+    CompletableFuture<String> lookup =
+        props.prop("prop.key", converter).valueAsync(Duration.ofMillis(100));
+    String value = lookup.get(5, TimeUnit.SECONDS);
+
+    // ASSERT
+    assertThat(value, equalTo("low"));
+    assertThat(
+        "Expected the value to not be decoded by the JDK's shared delayer thread",
+        decodedBy.get(),
+        not(containsString("Delay")));
+  }
+
+  /** Async resolver whose lookups never complete. */
+  private static class HangingResolver implements AsyncResolver {
+    @Override
+    public CompletableFuture<String> getAsync(String key) {
+      return new CompletableFuture<>();
+    }
+
+    @Override
+    public Duration syncTimeout() {
+      return Duration.ofMillis(100);
+    }
+
+    @Override
+    public Set<String> reload() {
+      return Set.of();
+    }
+
+    @Override
+    public String id() {
+      return "hanging";
+    }
+  }
+
+  /** Resolver which can enumerate its keys and records all lookups. */
+  private static class EnumerableResolver implements Resolver {
+    private final Map<String, String> values = new HashMap<>();
+    private final List<String> lookups = new ArrayList<>();
+
+    private void set(String key, String value) {
+      values.put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public String get(String key) {
+      lookups.add(key);
+      return values.get(key);
+    }
+
+    @Override
+    public Set<String> reload() {
+      return Set.of();
+    }
+
+    @Override
+    public Set<String> keys() {
+      return values.keySet();
+    }
+
+    @Override
+    public String id() {
+      return "enumerable";
+    }
+  }
+
+  /** Resolver which records all bulk lookups. */
+  private static class BatchingResolver implements Resolver {
+    private final String id;
+    private final Map<String, String> values = new HashMap<>();
+    private final List<Set<String>> requests = new ArrayList<>();
+
+    private BatchingResolver(String id) {
+      this.id = id;
+    }
+
+    private void set(String key, String value) {
+      values.put(key, value);
+    }
+
+    @Override
+    public String get(String key) {
+      throw new AssertionError("Expected all lookups to be done in bulk");
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> keys) {
+      requests.add(Set.copyOf(keys));
+      Map<String, String> found = new HashMap<>();
+      for (String key : keys) {
+        if (values.containsKey(key)) {
+          found.put(key, values.get(key));
+        }
+      }
+      return found;
+    }
+
+    @Override
+    public Set<String> reload() {
+      return Set.of();
+    }
+
+    @Override
+    public String id() {
+      return id;
+    }
+  }
+
+  /** Basic string prop, used for binding props manually. */
+  private static class TestProp extends AbstractStringProp {
+    private TestProp(String key) {
+      super(key, null, null, false, false);
+    }
+  }
+
+  /** Resolver which blocks its first reload until the specified latch is released. */
+  private static class SlowResolver extends InMemoryResolver {
+    private final CountDownLatch latch;
+
+    private SlowResolver(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public Set<String> reload() {
+      try {
+        latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return super.reload();
+    }
+  }
+
   /**
    * Defines a custom decoder for the Duration, returning it as a String.
    *
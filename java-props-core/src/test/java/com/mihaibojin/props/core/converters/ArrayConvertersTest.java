@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+class ArrayConvertersTest {
+
+  @Test
+  void decodePrimitiveArrays() {
+    // ARRANGE
+    StringBuilder manyLongs = new StringBuilder("0");
+    for (int i = 1; i < 1000; i++) {
+      manyLongs.append(',').append(i * 1_000_000_000L);
+    }
+
+    // ACT
+    long[] longs = Cast.asLongArray().decode(manyLongs.toString());
+    int[] ints = Cast.asIntArray().decode("1, -2,x,3");
+    double[] doubles = Cast.asDoubleArray().decode("0.5,1e3");
+
+    // ASSERT
+    assertThat(longs.length, equalTo(1000));
+    assertThat(longs[999], equalTo(999_000_000_000L));
+    assertThat("Expected invalid items to be skipped", ints, equalTo(new int[] {1, -2, 3}));
+    assertThat(doubles, equalTo(new double[] {0.5, 1000.0}));
+  }
+
+  @Test
+  void dropTrailingEmptyItemsSilently() {
+    // ARRANGE
+    List<LogRecord> records = new ArrayList<>();
+    Handler handler =
+        new Handler() {
+          @Override
+          public void publish(LogRecord record) {
+            records.add(record);
+          }
+
+          @Override
+          public void flush() {}
+
+          @Override
+          public void close() {}
+        };
+    Logger logger = Logger.getLogger(ConverterUtils.class.getName());
+    logger.addHandler(handler);
+
+    // ACT
+    long[] longs;
+    int[] ints;
+    double[] doubles;
+    List<Long> list;
+    try {
+      longs = Cast.asLongArray().decode("1,2,");
+      ints = Cast.asIntArray().decode("1,,,");
+      doubles = Cast.asDoubleArray().decode(",");
+      list = Cast.asListOfLong().decode("1,2,");
+    } finally {
+      logger.removeHandler(handler);
+    }
+
+    // ASSERT
+    assertThat(longs, equalTo(new long[] {1, 2}));
+    assertThat(ints, equalTo(new int[] {1}));
+    assertThat(doubles, equalTo(new double[] {}));
+    assertThat(list, equalTo(List.of(1L, 2L)));
+    assertThat("Expected trailing empty items to not be logged", records, empty());
+  }
+
+  @Test
+  void encodeWithTheSeparator() {
+    // ARRANGE
+    LongArrayConverter converter =
+        new LongArrayConverter() {
+          @Override
+          public String separator() {
+            return ";";
+          }
+        };
+
+    // ACT
+    String encoded = converter.encode(new long[] {1, 2, 3});
+
+    // ASSERT
+    assertThat(encoded, equalTo("1;2;3"));
+    assertThat(converter.decode(encoded), equalTo(new long[] {1, 2, 3}));
+  }
+}
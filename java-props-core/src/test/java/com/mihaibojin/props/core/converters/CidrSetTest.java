@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CidrSetTest {
+
+  @Test
+  void matchIpv4Ranges() throws UnknownHostException {
+    // ACT
+    CidrSet set = Cast.asCidrSet().decode("10.0.0.0/8, 192.168.1.0/24,172.16.5.4");
+
+    // ASSERT
+    assertThat(set.matches(InetAddress.getByName("10.200.3.4")), equalTo(true));
+    assertThat(set.matches(InetAddress.getByName("192.168.1.255")), equalTo(true));
+    assertThat(set.matches(InetAddress.getByName("192.168.2.1")), equalTo(false));
+    assertThat(set.matches(InetAddress.getByName("172.16.5.4")), equalTo(true));
+    assertThat(set.matches(InetAddress.getByName("172.16.5.5")), equalTo(false));
+    assertThat(set.matches(InetAddress.getByName("11.0.0.0")), equalTo(false));
+  }
+
+  @Test
+  void matchIpv6Ranges() throws UnknownHostException {
+    // ACT
+    CidrSet set = Cast.asCidrSet().decode("2001:db8::/32,::1,::ffff:10.0.0.0/104");
+
+    // ASSERT
+    assertThat(set.matches(InetAddress.getByName("2001:db8:1::5")), equalTo(true));
+    assertThat(set.matches(InetAddress.getByName("2001:db9::")), equalTo(false));
+    assertThat(set.matches(InetAddress.getByName("::1")), equalTo(true));
+    assertThat(set.matches(InetAddress.getByName("::2")), equalTo(false));
+    assertThat(
+        "Expected IPv4-mapped ranges to match IPv4 addresses",
+        set.matches(InetAddress.getByName("10.1.2.3")),
+        equalTo(true));
+    assertThat(
+        "Expected IPv4 addresses not to match IPv6 ranges",
+        set.matches(new byte[] {32, 1, 13, -72}),
+        equalTo(false));
+  }
+
+  @Test
+  void matchEverythingWithAZeroPrefix() {
+    // ACT
+    CidrSet set = CidrSet.of("0.0.0.0/0");
+
+    // ASSERT
+    assertThat(set.matches(new byte[] {1, 2, 3, 4}), equalTo(true));
+    assertThat(set.matches(new byte[16]), equalTo(false));
+    assertThat(set.matches(new byte[5]), equalTo(false));
+  }
+
+  @Test
+  void skipInvalidRanges() {
+    // ACT
+    CidrSet set =
+        Cast.asCidrSet()
+            .decode("10.0.0.0/33,256.0.0.0/8,1.2.3/8,example.com,fe80::/x,1.2.3.4/32,,");
+
+    // ASSERT
+    assertThat(set.ranges(), equalTo(List.of("1.2.3.4/32")));
+    assertThat(Cast.asCidrSet().encode(set), equalTo("1.2.3.4/32"));
+    assertThrows(IllegalArgumentException.class, () -> CidrSet.of("1.2.3.4/-1"));
+  }
+
+  @Test
+  void setsWithTheSameRangesAreEqual() {
+    // ACT
+    CidrSet decoded = Cast.asCidrSet().decode("10.0.0.0/8, ::1");
+
+    // ASSERT
+    assertThat(decoded, equalTo(CidrSet.of("10.0.0.0/8", "::1")));
+    assertThat(decoded.hashCode(), equalTo(CidrSet.of("10.0.0.0/8", "::1").hashCode()));
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ConverterRegistryTest {
+
+  @SuppressWarnings("unused")
+  private List<Long> longs;
+
+  @SuppressWarnings("unused")
+  private Map<String, List<Long>> groups;
+
+  @Test
+  void castReturnsSharedConverters() {
+    // ACT / ASSERT
+    assertThat(Cast.asLong(), sameInstance(Cast.asLong()));
+    assertThat(Cast.asListOfString(), sameInstance(Cast.asListOfString()));
+    assertThat(
+        Cast.asNumericDuration(ChronoUnit.MILLIS),
+        sameInstance(Cast.asNumericDuration(ChronoUnit.MILLIS)));
+  }
+
+  @Test
+  void findConvertersByType() throws NoSuchFieldException {
+    // ARRANGE
+    ConverterRegistry registry = ConverterRegistry.defaults();
+    Type reflected = ConverterRegistryTest.class.getDeclaredField("longs").getGenericType();
+
+    // ACT / ASSERT
+    assertThat(registry.get(Long.class), sameInstance(Cast.asLong()));
+    assertThat(registry.find(reflected), sameInstance((Object) Cast.asListOfLong()));
+    assertThat(ConverterRegistry.listOf(Long.class), equalTo(reflected));
+    assertThat(registry.find(Set.class), nullValue());
+    assertThrows(IllegalArgumentException.class, () -> registry.get(Set.class));
+  }
+
+  @Test
+  void resolveEveryCastTypeFromDefaults() {
+    // ARRANGE
+    ConverterRegistry registry = ConverterRegistry.defaults();
+
+    // ACT / ASSERT
+    for (Method method : Cast.class.getMethods()) {
+      if (!Modifier.isStatic(method.getModifiers()) || !method.getName().startsWith("as")) {
+        continue;
+      }
+
+      Type type = ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+      if (type instanceof ParameterizedType
+          && Map.class.equals(((ParameterizedType) type).getRawType())) {
+        // map converters are composed from their key and value types
+        type = ConverterRegistry.mapOf(String.class, Long.class);
+      }
+      assertThat(
+          "Expected a converter for " + method.getName(), registry.find(type), notNullValue());
+    }
+  }
+
+  @Test
+  void composeMapConverters() throws NoSuchFieldException {
+    // ARRANGE
+    ConverterRegistry registry = ConverterRegistry.defaults();
+    Type reflected = ConverterRegistryTest.class.getDeclaredField("groups").getGenericType();
+    Type constructed = ConverterRegistry.mapOf(String.class, ConverterRegistry.listOf(Long.class));
+
+    // ACT
+    Converter<?> converter = registry.find(reflected);
+
+    // ASSERT
+    assertThat(constructed, equalTo(reflected));
+    assertThat(constructed.getTypeName(), equalTo(reflected.getTypeName()));
+    assertThat(registry.find(constructed), sameInstance((Object) converter));
+    assertThat(
+        converter.decode("a=1,b=3"),
+        equalTo((Object) Map.of("a", List.of(1L), "b", List.of(3L))));
+    assertThat(registry.find(ConverterRegistry.mapOf(String.class, Set.class)), nullValue());
+  }
+
+  @Test
+  void registerLazyLists() {
+    // ACT
+    ConverterRegistry registry = ConverterRegistry.defaults().withLazyLists();
+
+    // ASSERT
+    assertThat(
+        registry.find(ConverterRegistry.listOf(Long.class)),
+        sameInstance((Object) Cast.asLazyListOfLong()));
+    assertThat(
+        registry.find(ConverterRegistry.listOf(String.class)),
+        sameInstance((Object) Cast.asLazyListOfString()));
+  }
+
+  @Test
+  void registerCustomConverters() {
+    // ARRANGE
+    ConverterRegistry registry = new ConverterRegistry();
+    Converter<Long> hex = value -> Long.parseLong(value, 16);
+
+    // ACT
+    registry.register(Long.class, hex);
+
+    // ASSERT
+    assertThat(registry.get(Long.class).decode("ff"), equalTo(255L));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyListTest {
+
+  @Test
+  void splitLikeTheEagerConverter() {
+    // ACT / ASSERT
+    for (String value : List.of("a", "a,b", "a,,b", ",a", "a,b,,", ",", "a, b ,c")) {
+      assertThat(
+          value,
+          Cast.asLazyListOfString().decode(value),
+          equalTo(Cast.asListOfString().decode(value)));
+    }
+  }
+
+  @Test
+  void decodeEmptyInputsAsEmptyLists() {
+    // ACT / ASSERT
+    assertThat(Cast.asLazyListOfLong().decode(""), equalTo(Cast.asListOfLong().decode("")));
+    assertThat(Cast.asLazyListOfLong().decode(""), equalTo(List.of()));
+    assertThat(Cast.asLazyListOfString().decode(""), equalTo(List.of()));
+  }
+
+  @Test
+  void parseElementsOnFirstAccess() {
+    // ARRANGE
+    AtomicInteger parsed = new AtomicInteger();
+    List<Long> list =
+        LazyList.of(
+            "1,2,3,4,5",
+            ",",
+            (input, start, end) -> {
+              parsed.incrementAndGet();
+              return NumberParser.parseLong(input, start, end);
+            });
+
+    // ACT
+    int size = list.size();
+    Long third = list.get(2);
+    list.get(2);
+
+    // ASSERT
+    assertThat(size, equalTo(5));
+    assertThat(third, equalTo(3L));
+    assertThat(parsed.get(), equalTo(1));
+    assertThat(list, equalTo(List.of(1L, 2L, 3L, 4L, 5L)));
+  }
+
+  @Test
+  void reportInvalidElementsWhenRead() {
+    // ARRANGE
+    List<Long> list = Cast.asLazyListOfLong().decode("1,x,3");
+
+    // ACT / ASSERT
+    assertThat(list.get(0), equalTo(1L));
+    assertThrows(NumberFormatException.class, () -> list.get(1));
+    assertThrows(UnsupportedOperationException.class, () -> list.add(4L));
+  }
+
+  @Test
+  void compareEqualInputsWithoutParsing() {
+    // ARRANGE
+    List<Long> first = Cast.asLazyListOfLong().decode("1,x,3");
+    List<Long> second = Cast.asLazyListOfLong().decode("1,x,3");
+
+    // ACT / ASSERT
+    assertThat(first, equalTo(second));
+    assertThat(Cast.asLazyListOfLong().decode("1,2"), equalTo(List.of(1L, 2L)));
+  }
+
+  @Test
+  void compareSizesBeforeElements() {
+    // ARRANGE
+    AtomicInteger parsed = new AtomicInteger();
+    List<Long> list =
+        LazyList.of(
+            "1,2,3",
+            ",",
+            (input, start, end) -> {
+              parsed.incrementAndGet();
+              return NumberParser.parseLong(input, start, end);
+            });
+
+    // ACT
+    boolean equal = list.equals(List.of(1L, 2L));
+    int parsedByEquals = parsed.get();
+    int first = list.hashCode();
+    int second = list.hashCode();
+
+    // ASSERT
+    assertThat(equal, equalTo(false));
+    assertThat("Expected no elements to be parsed", parsedByEquals, equalTo(0));
+    assertThat(first, equalTo(List.of(1L, 2L, 3L).hashCode()));
+    assertThat(second, equalTo(first));
+    assertThat("Expected each element to be parsed once", parsed.get(), equalTo(3));
+  }
+}
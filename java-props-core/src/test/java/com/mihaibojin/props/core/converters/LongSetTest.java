@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongSetTest {
+
+  @Test
+  void chooseTheStructureByDensity() {
+    // ARRANGE
+    long[] sparse = new long[LongSet.MAX_SORTED_SIZE * 2];
+    for (int i = 0; i < sparse.length; i++) {
+      sparse[i] = i * 1_000_003L;
+    }
+
+    // ACT
+    LongSet dense = LongSet.of(100, 101, 105, 164);
+    LongSet small = LongSet.of(1, 1_000_000, -1_000_000);
+    LongSet large = LongSet.of(sparse);
+
+    // ASSERT
+    assertThat(dense.getClass().getSimpleName(), equalTo("BitmapLongSet"));
+    assertThat(small.getClass().getSimpleName(), equalTo("SortedLongSet"));
+    assertThat(large.getClass().getSimpleName(), equalTo("HashLongSet"));
+  }
+
+  @Test
+  void answerMembershipQueries() {
+    // ARRANGE
+    Random random = new Random(42);
+    long[] values = new long[20_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextLong() & ~1L;
+    }
+    values[0] = 0;
+    values[1] = Long.MIN_VALUE;
+
+    // ACT
+    LongSet set = LongSet.of(values);
+
+    // ASSERT
+    for (long value : values) {
+      assertThat(set.contains(value), equalTo(true));
+      assertThat("Expected odd values to be missing", set.contains(value | 1), equalTo(false));
+    }
+    assertThat(set.size(), equalTo(values.length));
+  }
+
+  @Test
+  void answerMembershipQueriesForDenseRanges() {
+    // ACT
+    LongSet set = LongSet.of(Long.MAX_VALUE, Long.MAX_VALUE - 2, Long.MAX_VALUE - 127);
+
+    // ASSERT
+    assertThat(set.contains(Long.MAX_VALUE), equalTo(true));
+    assertThat(set.contains(Long.MAX_VALUE - 1), equalTo(false));
+    assertThat(set.contains(Long.MAX_VALUE - 127), equalTo(true));
+    assertThat(set.contains(Long.MIN_VALUE), equalTo(false));
+    assertThat(set.contains(0), equalTo(false));
+  }
+
+  @Test
+  void setsWithTheSameValuesAreEqual() {
+    // ACT
+    LongSet decoded = Cast.asLongSet().decode("3,1,2,2,x");
+
+    // ASSERT
+    assertThat(decoded, equalTo(LongSet.of(1, 2, 3)));
+    assertThat(decoded.hashCode(), equalTo(LongSet.of(3, 2, 1).hashCode()));
+    assertThat(decoded.size(), equalTo(3));
+    assertThat(Cast.asLongSet().encode(decoded), equalTo("1,2,3"));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MapConverterTest {
+
+  @Test
+  void decodeEntries() {
+    // ARRANGE
+    Converter<Map<String, Long>> converter = Cast.asMapOf(Cast.asString(), Cast.asLong());
+
+    // ACT
+    Map<String, Long> limits = converter.decode("tenant1=100,tenant2=200,invalid,tenant3=x,");
+
+    // ASSERT
+    assertThat(limits, equalTo(Map.of("tenant1", 100L, "tenant2", 200L)));
+    assertThrows(UnsupportedOperationException.class, () -> limits.put("tenant4", 1L));
+  }
+
+  @Test
+  void decodeNestedMaps() {
+    // ARRANGE
+    Converter<Map<String, Map<String, Integer>>> converter =
+        Cast.asMapOf(
+            Cast.asString(), Cast.asMapOf(Cast.asString(), Cast.asInteger(), ";", ":"), ",", "=");
+
+    // ACT
+    Map<String, Map<String, Integer>> limits =
+        converter.decode("tenant1=read:10;write:5,tenant2=read:20");
+
+    // ASSERT
+    assertThat(
+        limits,
+        equalTo(Map.of("tenant1", Map.of("read", 10, "write", 5), "tenant2", Map.of("read", 20))));
+  }
+
+  @Test
+  void encodeEntries() {
+    // ARRANGE
+    Converter<Map<String, Long>> converter =
+        Cast.asMapOf(Cast.asString(), Cast.asLong(), ";", "->");
+
+    // ACT
+    String encoded = converter.encode(Map.of("a", 1L));
+
+    // ASSERT
+    assertThat(encoded, equalTo("a->1"));
+    assertThat(converter.decode(encoded), equalTo(Map.of("a", 1L)));
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MemoizingConverterTest {
+
+  @Test
+  void decodeEachStringOnce() {
+    // ARRANGE
+    AtomicInteger decodes = new AtomicInteger();
+    MemoizingConverter<Long> converter =
+        new MemoizingConverter<>(
+            value -> {
+              decodes.incrementAndGet();
+              return Cast.asLong().decode(value);
+            },
+            2);
+
+    // ACT
+    converter.decode("1");
+    converter.decode("1");
+    converter.decode("2");
+    converter.decode("1");
+    converter.decode("3");
+    Long evicted = converter.decode("2");
+
+    // ASSERT
+    assertThat(evicted, equalTo(2L));
+    assertThat("Expected '2' to be evicted as least recently used", decodes.get(), equalTo(4));
+  }
+
+  @Test
+  void doNotRememberInvalidStrings() {
+    // ARRANGE
+    AtomicInteger decodes = new AtomicInteger();
+    MemoizingConverter<Long> converter =
+        new MemoizingConverter<>(
+            value -> {
+              decodes.incrementAndGet();
+              return null;
+            },
+            10);
+
+    // ACT
+    converter.decode("invalid");
+    Long value = converter.decode("invalid");
+
+    // ASSERT
+    assertThat(value, nullValue());
+    assertThat(decodes.get(), equalTo(2));
+  }
+}
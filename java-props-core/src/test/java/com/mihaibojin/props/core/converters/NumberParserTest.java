@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NumberParserTest {
+
+  @Test
+  void parseIntegralValues() {
+    // ACT / ASSERT
+    assertThat(NumberParser.parseInt("42"), equalTo(42));
+    assertThat(NumberParser.parseInt(" -7 "), equalTo(-7));
+    assertThat(NumberParser.parseInt("+2147483647"), equalTo(Integer.MAX_VALUE));
+    assertThat(NumberParser.parseLong("-9223372036854775808"), equalTo(Long.MIN_VALUE));
+    assertThat(NumberParser.parseLong("9223372036854775807"), equalTo(Long.MAX_VALUE));
+    assertThat(NumberParser.parseLong("x=10;", 2, 4), equalTo(10L));
+  }
+
+  @Test
+  void rejectInvalidIntegralValues() {
+    // ACT / ASSERT
+    for (String value : List.of("", " ", "-", "12abc", "1,000", "1.5", "2147483648")) {
+      assertThrows(NumberFormatException.class, () -> NumberParser.parseInt(value), value);
+    }
+    assertThrows(NumberFormatException.class, () -> NumberParser.parseLong("9223372036854775808"));
+  }
+
+  @Test
+  void parseFloatingPointValues() {
+    // ARRANGE
+    List<String> values =
+        List.of(
+            "0",
+            "-0.0",
+            "1.5",
+            ".25",
+            "3.",
+            "-1.5e3",
+            "2E-5",
+            "0.1",
+            "0.000123",
+            "16777217",
+            "1e22",
+            "1e23",
+            "123456789012345678901234567890",
+            "3.141592653589793238",
+            "4.9e-324");
+
+    // ACT / ASSERT
+    for (String value : values) {
+      assertThat(value, NumberParser.parseDouble(value), equalTo(Double.parseDouble(value)));
+      assertThat(value, NumberParser.parseFloat(value), equalTo(Float.parseFloat(value)));
+    }
+    assertThat(NumberParser.parseDouble("1.7976931348623157e308"), equalTo(Double.MAX_VALUE));
+  }
+
+  @Test
+  void rejectInvalidFloatingPointValues() {
+    // ACT / ASSERT
+    for (String value : List.of("", ".", "1e", "1e+", "1.2.3", "12abc", "1,5", "0x10", "1e400")) {
+      assertThrows(NumberFormatException.class, () -> NumberParser.parseDouble(value), value);
+    }
+    assertThrows(NumberFormatException.class, () -> NumberParser.parseFloat("1e39"));
+  }
+
+  @Test
+  void skipInvalidListItems() {
+    // ARRANGE
+    ListOfLongConverter converter = new ListOfLongConverter() {};
+
+    // ACT
+    List<Long> values = converter.decode("1, 2,x,,3");
+
+    // ASSERT
+    assertThat(values, equalTo(List.of(1L, 2L, 3L)));
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.converters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+class PatternSetTest {
+
+  @Test
+  void matchLiteralsAndPrefixes() {
+    // ACT
+    PatternSet set = Cast.asPatternSet().decode("api\\.example\\.com\n/internal/.*\n/health");
+
+    // ASSERT
+    assertThat(set.matchesAny("api.example.com"), equalTo(true));
+    assertThat(set.matchesAny("apixexample.com"), equalTo(false));
+    assertThat(set.matchesAny("/internal/"), equalTo(true));
+    assertThat(set.matchesAny("/internal/metrics"), equalTo(true));
+    assertThat(set.matchesAny("/internal"), equalTo(false));
+    assertThat(set.matchesAny("/health"), equalTo(true));
+    assertThat(set.matchesAny("/healthz"), equalTo(false));
+    assertThat(
+        "Expected .* not to match line terminators",
+        set.matchesAny("/internal/a\nb"),
+        equalTo(false));
+  }
+
+  @Test
+  void matchRegularExpressions() {
+    // ACT
+    PatternSet set =
+        PatternSet.of("user-[0-9]+", "(?i)admin", "(a)\\1", "(?<id>x)y", "/v[12]/.*", "/v3/.*");
+
+    // ASSERT
+    assertThat(set.matchesAny("user-42"), equalTo(true));
+    assertThat(set.matchesAny("user-"), equalTo(false));
+    assertThat(set.matchesAny("ADMIN"), equalTo(true));
+    assertThat("Expected inline flags to be scoped", set.matchesAny("USER-1"), equalTo(false));
+    assertThat(set.matchesAny("aa"), equalTo(true));
+    assertThat(set.matchesAny("xy"), equalTo(true));
+    assertThat(set.matchesAny("/v2/users"), equalTo(true));
+    assertThat(set.matchesAny("/v3/users"), equalTo(true));
+    assertThat(set.matchesAny("/v4/users"), equalTo(false));
+  }
+
+  @Test
+  void matchTheSameInputsAsTheIndividualPatterns() {
+    // ARRANGE
+    List<String> patterns = List.of("a", "ab.*", "a.c", "abc", "a\\.c", "", "b+", "\\d{2}");
+    PatternSet set = PatternSet.of(patterns.toArray(new String[0]));
+    List<String> inputs =
+        List.of("", "a", "ab", "abc", "a.c", "axc", "abd\n", "bbb", "12", "123", "b\r", "ac");
+
+    // ACT / ASSERT
+    for (String input : inputs) {
+      boolean expected = patterns.stream().anyMatch(input::matches);
+      assertThat(input, set.matchesAny(input), equalTo(expected));
+    }
+  }
+
+  @Test
+  void skipInvalidPatterns() {
+    // ACT
+    PatternSet set = Cast.asPatternSet().decode("[a-z\nb\n\n(c");
+
+    // ASSERT
+    assertThat(set.patterns(), equalTo(List.of("b")));
+    assertThat(Cast.asPatternSet().encode(set), equalTo("b"));
+    assertThat(set, equalTo(PatternSet.of("b")));
+    assertThrows(PatternSyntaxException.class, () -> PatternSet.of("(c"));
+  }
+
+  @Test
+  void doNotSplitQuantifiers() {
+    // ACT
+    PatternSet set = Cast.asPatternSet().decode("\\d{2,3}\n[a,b]+");
+
+    // ASSERT
+    assertThat(set.patterns(), equalTo(List.of("\\d{2,3}", "[a,b]+")));
+    assertThat(set.matchesAny("123"), equalTo(true));
+    assertThat(set.matchesAny("1234"), equalTo(false));
+    assertThat(set.matchesAny("a,b"), equalTo(true));
+    assertThat(Cast.asPatternSet().decode(Cast.asPatternSet().encode(set)), equalTo(set));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+  @Test
+  void openAfterConsecutiveFailures() {
+    // ARRANGE
+    CircuitBreaker breaker =
+        new CircuitBreaker(2, Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+    // ACT
+    breaker.recordFailure(0);
+    boolean openAfterOne = breaker.isOpen(0);
+    breaker.recordFailure(0);
+
+    // ASSERT
+    assertThat(openAfterOne, equalTo(false));
+    assertThat(breaker.isOpen(0), equalTo(true));
+    assertThat(breaker.tryAcquire(0), equalTo(false));
+    assertThat(breaker.isOpen(SECOND), equalTo(false));
+  }
+
+  @Test
+  void doubleTheBackoffUpToTheMaximum() {
+    // ARRANGE
+    CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(1), Duration.ofSeconds(3));
+
+    // ACT
+    breaker.recordFailure(0);
+    breaker.recordFailure(0);
+    boolean openAfterTwo = breaker.isOpen(SECOND);
+    breaker.recordFailure(0);
+    breaker.recordFailure(0);
+
+    // ASSERT
+    assertThat(openAfterTwo, equalTo(true));
+    assertThat(breaker.isOpen(3 * SECOND - 1), equalTo(true));
+    assertThat(breaker.isOpen(3 * SECOND), equalTo(false));
+  }
+
+  @Test
+  void closeAfterSuccess() {
+    // ARRANGE
+    CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+    breaker.recordFailure(0);
+
+    // ACT
+    breaker.recordSuccess();
+
+    // ASSERT
+    assertThat(breaker.isOpen(0), equalTo(false));
+  }
+
+  @Test
+  void allowOneAttemptAtATime() {
+    // ARRANGE
+    CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+    // ACT
+    boolean first = breaker.tryAcquire(0);
+    boolean concurrent = breaker.tryAcquire(0);
+    breaker.release();
+
+    // ASSERT
+    assertThat(first, equalTo(true));
+    assertThat(concurrent, equalTo(false));
+    assertThat(breaker.tryAcquire(0), equalTo(true));
+  }
+}
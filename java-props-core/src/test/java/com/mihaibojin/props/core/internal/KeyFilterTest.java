@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mihaibojin.props.core.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class KeyFilterTest {
+
+  @Test
+  void matchSmallKeySetsExactly() {
+    // ARRANGE
+    KeyFilter filter = KeyFilter.of(List.of("a.key", "another.key"));
+
+    // ACT
+    boolean present = filter.mightContain("a.key");
+    boolean absent = filter.mightContain("missing.key");
+
+    // ASSERT
+    assertThat(present, equalTo(true));
+    assertThat(absent, equalTo(false));
+  }
+
+  @Test
+  void summarizeLargeKeySetsWithBloomFilter() {
+    // ARRANGE
+    List<String> keys = keys("present.", 50_000);
+
+    // ACT
+    KeyFilter filter = KeyFilter.of(keys);
+
+    // ASSERT
+    assertThat(filter, instanceOf(BloomFilter.class));
+    assertThat(
+        "Expected no false negatives",
+        keys.stream().allMatch(filter::mightContain),
+        equalTo(true));
+    long falsePositives = keys("absent.", 10_000).stream().filter(filter::mightContain).count();
+    assertThat("Expected a false positive rate close to 1%", falsePositives, lessThan(200L));
+  }
+
+  private static List<String> keys(String prefix, int count) {
+    return IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.toList());
+  }
+}
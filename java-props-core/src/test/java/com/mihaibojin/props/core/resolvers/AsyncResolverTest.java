@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class AsyncResolverTest {
+
+  @Test
+  void synchronousLookupsAreBounded() {
+    // ARRANGE
+    AsyncResolver resolver =
+        new AsyncResolver() {
+          @Override
+          public CompletableFuture<String> getAsync(String key) {
+            return new CompletableFuture<>();
+          }
+
+          @Override
+          public Duration syncTimeout() {
+            return Duration.ofMillis(50);
+          }
+
+          @Override
+          public Set<String> reload() {
+            return Set.of();
+          }
+
+          @Override
+          public String id() {
+            return "hanging";
+          }
+        };
+
+    // ACT
+    CompletionException e = assertThrows(CompletionException.class, () -> resolver.get("key"));
+
+    // ASSERT
+    assertThat(e.getCause(), instanceOf(TimeoutException.class));
+  }
+}
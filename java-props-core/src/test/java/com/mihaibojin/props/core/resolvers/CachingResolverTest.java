@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.mihaibojin.props.core.annotations.Nullable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CachingResolverTest {
+
+  @Test
+  void cacheValuesAndMissingKeys() {
+    // ARRANGE
+    CountingResolver delegate = new CountingResolver();
+    delegate.values.put("key", "value");
+    CachingResolver resolver = new CachingResolver(delegate, 100, Duration.ofMinutes(1));
+
+    // ACT
+    for (int i = 0; i < 10; i++) {
+      resolver.get("key");
+      resolver.get("missing");
+    }
+
+    // ASSERT
+    assertThat(resolver.get("key"), equalTo("value"));
+    assertThat(resolver.get("missing"), nullValue());
+    assertThat(delegate.lookups, equalTo(2));
+  }
+
+  @Test
+  void retrieveMissesInBulk() {
+    // ARRANGE
+    CountingResolver delegate = new CountingResolver();
+    delegate.values.put("a", "1");
+    delegate.values.put("b", "2");
+    CachingResolver resolver = new CachingResolver(delegate, 100, Duration.ofMinutes(1));
+    resolver.get("a");
+
+    // ACT
+    Map<String, String> values = resolver.getAll(List.of("a", "b", "c"));
+
+    // ASSERT
+    assertThat(values, equalTo(Map.of("a", "1", "b", "2")));
+    assertThat("Expected one lookup for 'a' and one for 'b' and 'c'", delegate.lookups, equalTo(2));
+  }
+
+  @Test
+  void reloadExpiredValues() throws InterruptedException {
+    // ARRANGE
+    CountingResolver delegate = new CountingResolver();
+    delegate.values.put("key", "old");
+    CachingResolver resolver = new CachingResolver(delegate, 100, Duration.ofMillis(50));
+    resolver.get("key");
+
+    // ACT
+    delegate.values.put("key", "new");
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    // ASSERT
+    assertThat(resolver.get("key"), equalTo("new"));
+  }
+
+  @Test
+  void refreshValuesAheadOfExpiry() throws InterruptedException {
+    // ARRANGE
+    CountingResolver delegate = new CountingResolver();
+    delegate.values.put("key", "old");
+    CachingResolver resolver =
+        new CachingResolver(
+            delegate, 100, Duration.ofMinutes(1), Duration.ofMillis(10), Runnable::run);
+    resolver.get("key");
+
+    // ACT
+    delegate.values.put("key", "new");
+    TimeUnit.MILLISECONDS.sleep(50);
+    String stale = resolver.get("key");
+
+    // ASSERT
+    assertThat("Expected the cached value to be served while refreshing", stale, equalTo("old"));
+    assertThat(resolver.get("key"), equalTo("new"));
+  }
+
+  @Test
+  void invalidateReloadedKeys() {
+    // ARRANGE
+    PolledResolver delegate = new PolledResolver();
+    delegate.values.put("key", "old");
+    CachingResolver resolver = new CachingResolver(delegate, 100, Duration.ofMinutes(1));
+    resolver.reload();
+    resolver.get("key");
+
+    // ACT
+    delegate.values.put("key", "new");
+    String beforeReload = resolver.get("key");
+    Set<String> updated = resolver.reload();
+
+    // ASSERT
+    assertThat("Expected the cached value to be served until reload", beforeReload, equalTo("old"));
+    assertThat(updated, equalTo(Set.of("key")));
+    assertThat(resolver.get("key"), equalTo("new"));
+  }
+
+  @Test
+  void invalidatePushedKeys() throws Exception {
+    // ARRANGE
+    InMemoryResolver delegate = new InMemoryResolver();
+    delegate.set("key", "old");
+    CachingResolver resolver = new CachingResolver(delegate, 100, Duration.ofMinutes(1));
+    resolver.get("key");
+
+    CompletableFuture<Set<String>> pushed = new CompletableFuture<>();
+    resolver
+        .changes()
+        .subscribe(
+            new Flow.Subscriber<>() {
+              @Override
+              public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+              }
+
+              @Override
+              public void onNext(Set<String> keys) {
+                pushed.complete(keys);
+              }
+
+              @Override
+              public void onError(Throwable throwable) {}
+
+              @Override
+              public void onComplete() {}
+            });
+
+    // ACT
+    delegate.set("key", "new");
+
+    // ASSERT
+    assertThat(pushed.get(5, TimeUnit.SECONDS), equalTo(Set.of("key")));
+    assertThat(
+        "Expected the pushed key to be invalidated before it was forwarded",
+        resolver.get("key"),
+        equalTo("new"));
+  }
+
+  @Test
+  void keepFrequentKeysOverOneTimeKeys() {
+    // ARRANGE
+    CountingResolver delegate = new CountingResolver();
+    CachingResolver resolver = new CachingResolver(delegate, 100, Duration.ofMinutes(1));
+    for (int i = 0; i < 50; i++) {
+      for (int j = 0; j < 10; j++) {
+        resolver.get("hot." + i);
+      }
+    }
+
+    // ACT
+    for (int i = 0; i < 1000; i++) {
+      resolver.get("cold." + i);
+    }
+    int before = delegate.lookups;
+    for (int i = 0; i < 50; i++) {
+      resolver.get("hot." + i);
+    }
+
+    // ASSERT
+    assertThat(resolver.size(), lessThanOrEqualTo(100));
+    assertThat("Expected frequent keys to remain cached", delegate.lookups, equalTo(before));
+  }
+
+  /** Resolver which only reports its changes when it is reloaded. */
+  private static class PolledResolver implements Resolver {
+    private final Map<String, String> values = new HashMap<>();
+    private final Map<String, String> reloaded = new HashMap<>();
+
+    @Override
+    @Nullable
+    public String get(String key) {
+      return values.get(key);
+    }
+
+    @Override
+    public Set<String> reload() {
+      Set<String> changed = new HashSet<>();
+      for (Map.Entry<String, String> entry : values.entrySet()) {
+        if (!entry.getValue().equals(reloaded.put(entry.getKey(), entry.getValue()))) {
+          changed.add(entry.getKey());
+        }
+      }
+      return changed;
+    }
+
+    @Override
+    public String id() {
+      return "polled";
+    }
+  }
+
+  /** Counts the lookups made against a map of values. */
+  private static class CountingResolver extends ReadOnlyResolver {
+    private final Map<String, String> values = new HashMap<>();
+    private int lookups;
+
+    @Override
+    @Nullable
+    public String get(String key) {
+      lookups++;
+      return values.get(key);
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> keys) {
+      lookups++;
+      Map<String, String> result = new HashMap<>();
+      for (String key : keys) {
+        if (values.containsKey(key)) {
+          result.put(key, values.get(key));
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public String id() {
+      return "counting";
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryResolverTest {
+
+  @Test
+  void readFilesAsKeys(@TempDir Path dir) throws IOException {
+    // ARRANGE
+    Files.writeString(dir.resolve("db.url"), "jdbc:test\n");
+    Files.writeString(dir.resolve(".hidden"), "ignored");
+    Files.createDirectory(dir.resolve("subdir"));
+    DirectoryResolver resolver = new DirectoryResolver(dir, true);
+
+    // ACT
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(changed, equalTo(Set.of("db.url")));
+    assertThat(resolver.get("db.url"), equalTo("jdbc:test"));
+    assertThat(resolver.get(".hidden"), nullValue());
+    assertThat(resolver.get("subdir"), nullValue());
+  }
+
+  @Test
+  void reloadOnlyReturnsChangedFiles(@TempDir Path dir) throws IOException {
+    // ARRANGE
+    Path one = dir.resolve("one");
+    Path two = dir.resolve("two");
+    Files.writeString(one, "1");
+    Files.writeString(two, "2");
+    DirectoryResolver resolver = new DirectoryResolver(dir, true);
+    resolver.reload();
+
+    // ACT
+    Files.writeString(one, "11");
+    Files.setLastModifiedTime(one, FileTime.from(Instant.now().plusSeconds(10)));
+    Files.delete(two);
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(changed, equalTo(Set.of("one", "two")));
+    assertThat(resolver.get("one"), equalTo("11"));
+    assertThat(resolver.get("two"), nullValue());
+    assertThat(resolver.reload(), equalTo(Set.of()));
+  }
+
+  @Test
+  void detectDataLinkSwap(@TempDir Path dir) throws IOException {
+    // ARRANGE
+    // replicate the layout of a Kubernetes volume mount
+    Path v1 = Files.createDirectory(dir.resolve("..v1"));
+    Path v2 = Files.createDirectory(dir.resolve("..v2"));
+    Files.writeString(v1.resolve("key"), "one");
+    Files.writeString(v2.resolve("key"), "two");
+    Files.createSymbolicLink(dir.resolve("..data"), v1.getFileName());
+    Files.createSymbolicLink(dir.resolve("key"), Path.of("..data", "key"));
+
+    DirectoryResolver resolver = new DirectoryResolver(dir, true);
+    resolver.reload();
+
+    // ACT
+    Files.delete(dir.resolve("..data"));
+    Files.createSymbolicLink(dir.resolve("..data"), v2.getFileName());
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(changed, equalTo(Set.of("key")));
+    assertThat(resolver.get("key"), equalTo("two"));
+  }
+}
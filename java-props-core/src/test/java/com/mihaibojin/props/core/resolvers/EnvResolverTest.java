@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EnvResolverTest {
+
+  @Test
+  void findNormalizedKeys() {
+    // ARRANGE
+    EnvResolver resolver =
+        new EnvResolver(Map.of("DB_URL", "jdbc:test"), EnvResolver::defaultNormalizer);
+
+    // ACT
+    String exact = resolver.get("DB_URL");
+    String normalized = resolver.get("db.url");
+
+    // ASSERT
+    assertThat(exact, equalTo("jdbc:test"));
+    assertThat(normalized, equalTo("jdbc:test"));
+    assertThat(resolver.get("Db.Url"), nullValue());
+  }
+
+  @Test
+  void exactNamesTakePrecedence() {
+    // ARRANGE
+    EnvResolver resolver =
+        new EnvResolver(
+            Map.of("DB_URL", "normalized", "db.url", "exact"), EnvResolver::defaultNormalizer);
+
+    // ACT
+    String value = resolver.get("db.url");
+
+    // ASSERT
+    assertThat(value, equalTo("exact"));
+  }
+
+  @Test
+  void readSnapshotOfEnvironment() {
+    // ARRANGE
+    EnvResolver resolver = new EnvResolver(true);
+
+    // ACT
+    String value = resolver.get("path");
+
+    // ASSERT
+    assertThat(value, equalTo(System.getenv("PATH")));
+  }
+}
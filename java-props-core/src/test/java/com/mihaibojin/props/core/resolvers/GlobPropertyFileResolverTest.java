@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GlobPropertyFileResolverTest {
+
+  @Test
+  void mergeFilesInOrder(@TempDir Path dir) throws IOException {
+    // ARRANGE
+    Files.writeString(dir.resolve("10-defaults.properties"), "a=1\nb=1\n");
+    Files.writeString(dir.resolve("20-overrides.properties"), "b=2\n");
+    Files.writeString(dir.resolve("ignored.txt"), "c=3\n");
+    GlobPropertyFileResolver resolver =
+        new GlobPropertyFileResolver(dir.resolve("*.properties").toString(), true);
+
+    // ACT
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(changed, equalTo(Set.of("a", "b")));
+    assertThat(resolver.get("a"), equalTo("1"));
+    assertThat(resolver.get("b"), equalTo("2"));
+    assertThat(resolver.get("c"), nullValue());
+  }
+
+  @Test
+  void reloadOnlyChangedFiles(@TempDir Path dir) throws IOException {
+    // ARRANGE
+    Path defaults = dir.resolve("10-defaults.properties");
+    Path overrides = dir.resolve("20-overrides.properties");
+    Files.writeString(defaults, "a=1\nb=1\n");
+    Files.writeString(overrides, "b=2\n");
+    GlobPropertyFileResolver resolver =
+        new GlobPropertyFileResolver(dir.resolve("*.properties").toString(), true);
+    resolver.reload();
+
+    // ACT
+    Files.writeString(overrides, "a=3\n");
+    Files.setLastModifiedTime(overrides, FileTime.from(Instant.now().plusSeconds(10)));
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(changed, equalTo(Set.of("a", "b")));
+    assertThat(resolver.get("a"), equalTo("3"));
+    assertThat(resolver.get("b"), equalTo("1"));
+    assertThat(resolver.reload(), equalTo(Set.of()));
+  }
+
+  @Test
+  void removedFileKeysAreRecomputed(@TempDir Path dir) throws IOException {
+    // ARRANGE
+    Path overrides = dir.resolve("20-overrides.properties");
+    Files.writeString(dir.resolve("10-defaults.properties"), "a=1\n");
+    Files.writeString(overrides, "a=2\nb=2\n");
+    GlobPropertyFileResolver resolver =
+        new GlobPropertyFileResolver(dir.resolve("*.properties").toString(), true);
+    resolver.reload();
+
+    // ACT
+    Files.delete(overrides);
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(changed, equalTo(Set.of("a", "b")));
+    assertThat(resolver.get("a"), equalTo("1"));
+    assertThat(resolver.get("b"), nullValue());
+  }
+}
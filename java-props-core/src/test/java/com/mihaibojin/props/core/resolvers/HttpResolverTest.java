@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HttpResolverTest {
+
+  private HttpServer server;
+  private volatile String document;
+  private volatile String contentType;
+  private final AtomicInteger fullResponses = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/config", this::handle);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  /** Serves the current document, gzip-compressed, and supports ETag-based conditional GETs. */
+  private void handle(HttpExchange exchange) throws IOException {
+    String etag = "\"" + Integer.toHexString(document.hashCode()) + "\"";
+    if (Objects.equals(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    exchange.getResponseHeaders().set("ETag", etag);
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+    exchange.sendResponseHeaders(200, compressed.size());
+    try (OutputStream body = exchange.getResponseBody()) {
+      compressed.writeTo(body);
+    }
+    fullResponses.incrementAndGet();
+  }
+
+  private URI uri() {
+    return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/config");
+  }
+
+  @Test
+  void readPropertiesWithConditionalRequests() {
+    // ARRANGE
+    document = "a=1\nb=2\n";
+    contentType = "text/plain";
+    HttpResolver resolver = new HttpResolver(uri(), true);
+
+    // ACT
+    Set<String> initial = resolver.reload();
+    Set<String> unchanged = resolver.reload();
+    document = "a=1\nb=3\n";
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(initial, equalTo(Set.of("a", "b")));
+    assertThat(unchanged, equalTo(Set.of()));
+    assertThat(changed, equalTo(Set.of("b")));
+    assertThat(resolver.get("b"), equalTo("3"));
+    assertThat("Expected the unchanged document to not be resent", fullResponses.get(), equalTo(2));
+  }
+
+  @Test
+  void readJsonDocument() {
+    // ARRANGE
+    document = "{\"db\": {\"url\": \"jdbc:test\"}}";
+    contentType = "application/json; charset=utf-8";
+    HttpResolver resolver = new HttpResolver(uri(), true);
+
+    // ACT
+    Set<String> initial = resolver.reload();
+
+    // ASSERT
+    assertThat(initial, equalTo(Set.of("db.url")));
+    assertThat(resolver.get("db.url"), equalTo("jdbc:test"));
+  }
+
+  @Test
+  void failReloadsOnErrorResponses() {
+    // ARRANGE
+    URI missing = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/missing");
+    HttpResolver resolver = new HttpResolver(missing, true);
+
+    // ACT
+    IllegalStateException e = assertThrows(IllegalStateException.class, resolver::reload);
+
+    // ASSERT
+    assertThat(e.getMessage(), containsString("status code 404"));
+    assertThat(resolver.keys(), equalTo(Set.of()));
+  }
+}
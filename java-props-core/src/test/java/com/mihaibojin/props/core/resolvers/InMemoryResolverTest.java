@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class InMemoryResolverTest {
+
+  @Test
+  void reloadReturnsKeysPushedToSubscribers() throws Exception {
+    // ARRANGE
+    InMemoryResolver resolver = new InMemoryResolver();
+    CompletableFuture<Set<String>> pushed = new CompletableFuture<>();
+    resolver
+        .changes()
+        .subscribe(
+            new Flow.Subscriber<>() {
+              @Override
+              public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+              }
+
+              @Override
+              public void onNext(Set<String> keys) {
+                pushed.complete(keys);
+              }
+
+              @Override
+              public void onError(Throwable throwable) {}
+
+              @Override
+              public void onComplete() {}
+            });
+
+    // ACT
+    resolver.set("key", "value");
+
+    // ASSERT
+    assertThat(pushed.get(5, TimeUnit.SECONDS), equalTo(Set.of("key")));
+    assertThat(
+        "Expected the key to also be recorded for the next reload",
+        resolver.reload(),
+        equalTo(Set.of("key")));
+    assertThat(resolver.reload(), equalTo(Set.of()));
+  }
+
+  @Test
+  void versionDoesNotChangeBeforeTheKeyIsRecorded() throws InterruptedException {
+    // ARRANGE
+    InMemoryResolver resolver = new InMemoryResolver();
+    resolver.set("key", "old");
+    resolver.reload();
+    long version = resolver.version();
+    Thread writer = new Thread(() -> resolver.set("key", "new"));
+
+    // ACT
+    long observed;
+    synchronized (resolver) {
+      // hold the lock guarding the recorded keys, stopping the writer before it records the key
+      writer.start();
+      while (writer.getState() != Thread.State.BLOCKED) {
+        Thread.onSpinWait();
+      }
+      observed = resolver.version();
+    }
+    writer.join();
+
+    // ASSERT
+    assertThat(
+        "Expected a reload which observes the new version to also return the key",
+        observed,
+        equalTo(version));
+    assertThat(resolver.reload(), equalTo(Set.of("key")));
+    assertThat(resolver.version(), equalTo(version + 1));
+  }
+}
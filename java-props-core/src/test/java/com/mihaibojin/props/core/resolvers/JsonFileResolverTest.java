@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonFileResolverTest {
+
+  @Test
+  void flattenNestedJson() throws IOException {
+    // ARRANGE
+    String json =
+        "{\"db\": {\"url\": \"jdbc:test\", \"pool\": {\"size\": 10}},"
+            + " \"ports\": [80, 443], \"enabled\": true, \"missing\": null,"
+            + " \"hosts\": [{\"name\": \"a\\u0062c\"}], \"empty\": []}";
+
+    // ACT
+    Map<String, String> values = JsonFlattener.flatten(new StringReader(json));
+
+    // ASSERT
+    assertThat(
+        values,
+        equalTo(
+            Map.of(
+                "db.url", "jdbc:test",
+                "db.pool.size", "10",
+                "ports", "80,443",
+                "enabled", "true",
+                "hosts.0.name", "abc")));
+  }
+
+  @Test
+  void rejectInvalidJson() {
+    // ASSERT
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> JsonFlattener.flatten(new StringReader("{\"a\": 1,}")),
+        "Should not accept trailing commas");
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> JsonFlattener.flatten(new StringReader("{\"a\": 1abc}")),
+        "Should not accept invalid numbers");
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> JsonFlattener.flatten(new StringReader("[1, 2]")),
+        "Should only accept objects");
+  }
+
+  @Test
+  void reloadOnlyWhenFileChanged(@TempDir Path dir) throws IOException {
+    // ARRANGE
+    Path file = dir.resolve("config.json");
+    Files.writeString(file, "{\"a\": 1, \"b\": 2}");
+    JsonFileResolver resolver = new JsonFileResolver(file, true);
+    resolver.reload();
+
+    // ACT
+    Set<String> unchanged = resolver.reload();
+    Files.writeString(file, "{\"a\": 1, \"b\": 3}");
+    Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(unchanged, equalTo(Set.of()));
+    assertThat(changed, equalTo(Set.of("b")));
+    assertThat(resolver.get("b"), equalTo("3"));
+  }
+}
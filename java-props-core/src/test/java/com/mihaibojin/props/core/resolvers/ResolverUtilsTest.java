@@ -58,6 +58,50 @@ class ResolverUtilsTest {
     assertThat(resolver, instanceOf(PropertyFileResolver.class));
   }
 
+  @Test
+  void readConfigLineDirectory() {
+    // ACT
+    Resolver resolver = ResolverUtils.readConfigLine("dir=/etc/config,true");
+
+    // ASSERT
+    assertThat(resolver.id(), equalTo("/etc/config"));
+    assertThat(resolver.isReloadable(), equalTo(true));
+    assertThat(resolver, instanceOf(DirectoryResolver.class));
+  }
+
+  @Test
+  void readConfigLineGlob() {
+    // ACT
+    Resolver resolver = ResolverUtils.readConfigLine("glob=/etc/app/conf.d/*.properties");
+
+    // ASSERT
+    assertThat(resolver.id(), equalTo("/etc/app/conf.d/*.properties"));
+    assertThat(resolver.isReloadable(), equalTo(false));
+    assertThat(resolver, instanceOf(GlobPropertyFileResolver.class));
+  }
+
+  @Test
+  void readConfigLineJson() {
+    // ACT
+    Resolver resolver = ResolverUtils.readConfigLine("json=config.json,true");
+
+    // ASSERT
+    assertThat(resolver.id(), equalTo("config.json"));
+    assertThat(resolver.isReloadable(), equalTo(true));
+    assertThat(resolver, instanceOf(JsonFileResolver.class));
+  }
+
+  @Test
+  void readConfigLineHttp() {
+    // ACT
+    Resolver resolver = ResolverUtils.readConfigLine("http=https://config.local/app.json,true");
+
+    // ASSERT
+    assertThat(resolver.id(), equalTo("https://config.local/app.json"));
+    assertThat(resolver.isReloadable(), equalTo(true));
+    assertThat(resolver, instanceOf(HttpResolver.class));
+  }
+
   @Test
   void readConfigLineSystem() {
     // ACT
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Mihai Bojin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mihaibojin.props.core.resolvers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SystemPropertyResolverTest {
+
+  private static final String KEY = "props.test.system.reload";
+
+  @Test
+  void reloadDetectsChanges() {
+    // ARRANGE
+    SystemPropertyResolver resolver = new SystemPropertyResolver(true);
+    System.setProperty(KEY, "one");
+    Set<String> initial = resolver.reload();
+
+    // ACT
+    System.setProperty(KEY, "two");
+    String beforeReload = resolver.get(KEY);
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(initial, hasItem(KEY));
+    assertThat("Expected the snapshot to be served until reload", beforeReload, equalTo("one"));
+    assertThat(changed, equalTo(Set.of(KEY)));
+    assertThat(resolver.get(KEY), equalTo("two"));
+
+    // ACT
+    System.clearProperty(KEY);
+
+    // ASSERT
+    assertThat(resolver.reload(), equalTo(Set.of(KEY)));
+    assertThat(resolver.get(KEY), nullValue());
+  }
+
+  @Test
+  void defaultResolverIsNotReloadable() {
+    // ARRANGE
+    SystemPropertyResolver resolver = new SystemPropertyResolver();
+
+    // ACT
+    Set<String> changed = resolver.reload();
+
+    // ASSERT
+    assertThat(resolver.isReloadable(), equalTo(false));
+    assertThat(changed, equalTo(Set.of()));
+    assertThat(resolver.get("java.version"), equalTo(System.getProperty("java.version")));
+  }
+}